@@ -1,6 +1,6 @@
 import { IProductStockRepository } from '../../domain/repositories/IProductStockRepository';
 import { IEventPublisher } from '../../infrastructure/messaging/EventPublisher';
-import { OrderCreatedEvent, StockReservedEvent, StockRejectedEvent } from '../../infrastructure/messaging/events';
+import { OrderCreatedEvent, StockReservedEvent, StockRejectedEvent, TraceContext } from '../../infrastructure/messaging/events';
 import { logger } from '../../config/logger';
 
 /**
@@ -16,8 +16,9 @@ export class InventoryService {
 
   /**
    * Process order and check stock availability
+   * The trace context of the OrderCreated message is forwarded on the reply
    */
-  async processOrder(event: OrderCreatedEvent): Promise<void> {
+  async processOrder(event: OrderCreatedEvent, trace?: TraceContext): Promise<void> {
     logger.info('Processing order', { orderId: event.orderId });
 
     try {
@@ -40,7 +41,8 @@ export class InventoryService {
         await this.publishStockRejected(
           event.orderId,
           event.correlationId,
-          `Insufficient stock for product ${insufficientStockItem.productId}`
+          `Insufficient stock for product ${insufficientStockItem.productId}`,
+          trace
         );
         return;
       }
@@ -64,13 +66,14 @@ export class InventoryService {
         await this.publishStockRejected(
           event.orderId,
           event.correlationId,
-          `Failed to reserve stock for product ${failedReservation.productId}`
+          `Failed to reserve stock for product ${failedReservation.productId}`,
+          trace
         );
         return;
       }
 
       // All reservations successful - publish success event
-      await this.publishStockReserved(event);
+      await this.publishStockReserved(event, trace);
       
     } catch (error) {
       logger.error('Error processing order', { orderId: event.orderId, error });
@@ -79,7 +82,8 @@ export class InventoryService {
       await this.publishStockRejected(
         event.orderId,
         event.correlationId,
-        'Internal error while processing stock reservation'
+        'Internal error while processing stock reservation',
+        trace
       );
     }
   }
@@ -87,7 +91,7 @@ export class InventoryService {
   /**
    * Publish StockReserved event
    */
-  private async publishStockReserved(orderEvent: OrderCreatedEvent): Promise<void> {
+  private async publishStockReserved(orderEvent: OrderCreatedEvent, trace?: TraceContext): Promise<void> {
     const event: StockReservedEvent = {
       eventType: 'StockReserved',
       orderId: orderEvent.orderId,
@@ -99,7 +103,7 @@ export class InventoryService {
       reservedAt: Date.now() / 1000, // Unix timestamp in seconds (compatible with Java Instant)
     };
 
-    await this.eventPublisher.publishStockReserved(event);
+    await this.eventPublisher.publishStockReserved(event, trace);
   }
 
   /**
@@ -108,7 +112,8 @@ export class InventoryService {
   private async publishStockRejected(
     orderId: string,
     correlationId: string,
-    reason: string
+    reason: string,
+    trace?: TraceContext
   ): Promise<void> {
     const event: StockRejectedEvent = {
       eventType: 'StockRejected',
@@ -118,7 +123,7 @@ export class InventoryService {
       rejectedAt: Date.now() / 1000, // Unix timestamp in seconds (compatible with Java Instant)
     };
 
-    await this.eventPublisher.publishStockRejected(event);
+    await this.eventPublisher.publishStockRejected(event, trace);
   }
 
   /**
@@ -0,0 +1,71 @@
+import { decode, encode } from 'cbor-x';
+import { parse as parseUuid, stringify as stringifyUuid } from 'uuid';
+import { OrderCreatedEvent, StockReservedEvent, StockRejectedEvent } from './events';
+
+export const CONTENT_TYPE_JSON = 'application/json';
+export const CONTENT_TYPE_CBOR = 'application/cbor';
+
+/**
+ * Event Codec - Encodes and decodes events by content type
+ * CBOR follows the order-service wire schema (order-service/src/main/resources/schema/events.cddl):
+ * 16-byte UUIDs, epoch millisecond timestamps and [productId, quantity] item tuples
+ */
+export class EventCodec {
+  static decodeOrderCreated(content: Buffer, contentType?: string): OrderCreatedEvent {
+    if (!isCbor(contentType)) {
+      return JSON.parse(content.toString());
+    }
+
+    const raw = decode(content);
+    return {
+      eventType: raw.eventType,
+      orderId: toUuid(raw.orderId),
+      correlationId: toUuid(raw.correlationId),
+      createdAt: new Date(raw.createdAt).toISOString(),
+      items: (raw.items as [Uint8Array, number][]).map(([productId, quantity]) => ({
+        productId: toUuid(productId),
+        quantity,
+      })),
+    };
+  }
+
+  static encodeStockReserved(event: StockReservedEvent, contentType: string): Buffer {
+    if (!isCbor(contentType)) {
+      return Buffer.from(JSON.stringify(event));
+    }
+
+    return encode({
+      eventType: event.eventType,
+      orderId: fromUuid(event.orderId),
+      correlationId: fromUuid(event.correlationId),
+      reservedItems: event.reservedItems.map((item) => [fromUuid(item.productId), item.quantity]),
+      reservedAt: event.reservedAt * 1000,
+    });
+  }
+
+  static encodeStockRejected(event: StockRejectedEvent, contentType: string): Buffer {
+    if (!isCbor(contentType)) {
+      return Buffer.from(JSON.stringify(event));
+    }
+
+    return encode({
+      eventType: event.eventType,
+      orderId: fromUuid(event.orderId),
+      correlationId: fromUuid(event.correlationId),
+      reason: event.reason,
+      rejectedAt: event.rejectedAt * 1000,
+    });
+  }
+}
+
+function isCbor(contentType?: string): boolean {
+  return contentType !== undefined && contentType.startsWith(CONTENT_TYPE_CBOR);
+}
+
+function toUuid(value: Uint8Array | string): string {
+  return typeof value === 'string' ? value : stringifyUuid(value);
+}
+
+function fromUuid(value: string): Buffer {
+  return Buffer.from(parseUuid(value) as Uint8Array);
+}
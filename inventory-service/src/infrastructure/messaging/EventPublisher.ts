@@ -1,6 +1,7 @@
 import { Channel } from 'amqplib';
 import { RabbitMQConnection } from './RabbitMQConnection';
-import { StockReservedEvent, StockRejectedEvent } from './events';
+import { StockReservedEvent, StockRejectedEvent, TraceContext } from './events';
+import { EventCodec } from './EventCodec';
 import { config } from '../../config/config';
 import { logger } from '../../config/logger';
 
@@ -9,8 +10,8 @@ import { logger } from '../../config/logger';
  * Follows Interface Segregation Principle
  */
 export interface IEventPublisher {
-  publishStockReserved(event: StockReservedEvent): Promise<void>;
-  publishStockRejected(event: StockRejectedEvent): Promise<void>;
+  publishStockReserved(event: StockReservedEvent, trace?: TraceContext): Promise<void>;
+  publishStockRejected(event: StockRejectedEvent, trace?: TraceContext): Promise<void>;
 }
 
 /**
@@ -24,24 +25,27 @@ export class RabbitMQEventPublisher implements IEventPublisher {
     this.channel = RabbitMQConnection.getInstance().getChannel();
   }
 
-  async publishStockReserved(event: StockReservedEvent): Promise<void> {
+  async publishStockReserved(event: StockReservedEvent, trace?: TraceContext): Promise<void> {
     try {
-      const message = JSON.stringify(event);
+      const contentType = config.rabbitmq.contentType;
+      const message = EventCodec.encodeStockReserved(event, contentType);
       
       logger.info('Publishing StockReserved event', { 
         orderId: event.orderId, 
         exchange: config.rabbitmq.exchange,
         routingKey: config.rabbitmq.routingKeys.stockReserved,
-        message: message
+        contentType,
+        bytes: message.length
       });
       
       const published = this.channel.publish(
         config.rabbitmq.exchange,
         config.rabbitmq.routingKeys.stockReserved,
-        Buffer.from(message),
+        message,
         {
           persistent: true,
-          contentType: 'application/json',
+          contentType,
+          headers: traceHeaders(trace),
         }
       );
 
@@ -52,17 +56,19 @@ export class RabbitMQEventPublisher implements IEventPublisher {
     }
   }
 
-  async publishStockRejected(event: StockRejectedEvent): Promise<void> {
+  async publishStockRejected(event: StockRejectedEvent, trace?: TraceContext): Promise<void> {
     try {
-      const message = JSON.stringify(event);
+      const contentType = config.rabbitmq.contentType;
+      const message = EventCodec.encodeStockRejected(event, contentType);
       
       this.channel.publish(
         config.rabbitmq.exchange,
         config.rabbitmq.routingKeys.stockRejected,
-        Buffer.from(message),
+        message,
         {
           persistent: true,
-          contentType: 'application/json',
+          contentType,
+          headers: traceHeaders(trace),
         }
       );
 
@@ -73,3 +79,17 @@ export class RabbitMQEventPublisher implements IEventPublisher {
     }
   }
 }
+
+/**
+ * AMQP headers for the trace context, omitting the parts that were not received
+ */
+function traceHeaders(trace?: TraceContext): Record<string, string> {
+  const headers: Record<string, string> = {};
+  if (trace?.traceparent) {
+    headers.traceparent = trace.traceparent;
+  }
+  if (trace?.tracestate) {
+    headers.tracestate = trace.tracestate;
+  }
+  return headers;
+}
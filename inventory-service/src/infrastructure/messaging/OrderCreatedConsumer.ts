@@ -1,6 +1,7 @@
 import { Channel, ConsumeMessage } from 'amqplib';
 import { RabbitMQConnection } from './RabbitMQConnection';
-import { OrderCreatedEvent } from './events';
+import { OrderCreatedEvent, TraceContext } from './events';
+import { EventCodec } from './EventCodec';
 import { InventoryService } from '../../application/services/InventoryService';
 import { config } from '../../config/config';
 import { logger } from '../../config/logger';
@@ -41,13 +42,12 @@ export class OrderCreatedConsumer {
 
   private async handleMessage(msg: ConsumeMessage): Promise<void> {
     try {
-      const content = msg.content.toString();
-      logger.info('Received OrderCreated event', { content });
-
-      const event: OrderCreatedEvent = JSON.parse(content);
+      const contentType = msg.properties.contentType;
+      const event: OrderCreatedEvent = EventCodec.decodeOrderCreated(msg.content, contentType);
+      logger.info('Received OrderCreated event', { contentType, event });
 
       // Process the order
-      await this.inventoryService.processOrder(event);
+      await this.inventoryService.processOrder(event, this.traceContext(msg));
 
       // Acknowledge the message
       this.channel.ack(msg);
@@ -59,4 +59,12 @@ export class OrderCreatedConsumer {
       this.channel.nack(msg, false, false);
     }
   }
+
+  private traceContext(msg: ConsumeMessage): TraceContext {
+    const headers = msg.properties.headers ?? {};
+    return {
+      traceparent: headers.traceparent?.toString(),
+      tracestate: headers.tracestate?.toString(),
+    };
+  }
 }
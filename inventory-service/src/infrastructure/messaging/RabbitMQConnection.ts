@@ -62,8 +62,10 @@ export class RabbitMQConnection {
         durable: true,
       });
 
+      // Must match the order service's declaration: one active consumer keeps per-order order
       await this.channel.assertQueue(config.rabbitmq.queues.stockResponse, {
         durable: true,
+        arguments: { 'x-single-active-consumer': true },
       });
 
       // Bind queues to exchange
@@ -40,3 +40,12 @@ export interface StockRejectedEvent {
   reason: string;
   rejectedAt: number; // Unix timestamp in seconds
 }
+
+/**
+ * W3C Trace Context carried in the AMQP headers
+ * Echoed on the reply so the stock response joins the order's trace
+ */
+export interface TraceContext {
+  traceparent?: string;
+  tracestate?: string;
+}
@@ -0,0 +1,20 @@
+#!/bin/sh
+# Run the JMH benchmarks and write machine-readable results to results/<commit>.json
+# Usage: ./run.sh [JMH options and benchmark regexps]   e.g. ./run.sh OrderMapperBenchmark -p items=1000
+set -e
+
+cd "$(dirname "$0")"
+
+if [ ! -f target/benchmarks.jar ]; then
+    echo "target/benchmarks.jar not found, build it first (see README.md)" >&2
+    exit 1
+fi
+
+COMMIT=$(git rev-parse --short HEAD 2>/dev/null || echo local)
+if [ -n "$(git status --porcelain -- .. 2>/dev/null)" ]; then
+    COMMIT="$COMMIT-dirty"
+fi
+
+mkdir -p results
+java -jar target/benchmarks.jar -rf json -rff "results/$COMMIT.json" "$@"
+echo "Results written to results/$COMMIT.json"
@@ -0,0 +1,65 @@
+package ec.edu.espe.orderservice.benchmarks;
+
+import ec.edu.espe.orderservice.application.dto.CreateOrderRequest;
+import ec.edu.espe.orderservice.application.dto.OrderItemRequest;
+import ec.edu.espe.orderservice.application.dto.ShippingAddressRequest;
+import ec.edu.espe.orderservice.domain.model.Order;
+import ec.edu.espe.orderservice.domain.model.OrderItem;
+import ec.edu.espe.orderservice.domain.model.OrderStatus;
+import ec.edu.espe.orderservice.domain.model.ShippingAddress;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Fixture builders shared by the benchmarks
+ */
+final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    static Order order(int itemCount) {
+        Instant now = Instant.now();
+        Order order = Order.builder()
+                .orderId(UUID.randomUUID())
+                .customerId(UUID.randomUUID())
+                .status(OrderStatus.PENDING)
+                .shippingAddress(ShippingAddress.builder()
+                        .country("EC")
+                        .city("Quito")
+                        .street("Av. General Rumiñahui")
+                        .postalCode("171103")
+                        .build())
+                .paymentReference("pay_" + UUID.randomUUID())
+                .createdAt(now)
+                .updatedAt(now)
+                .version(0L)
+                .build();
+
+        for (int i = 0; i < itemCount; i++) {
+            order.getItems().add(OrderItem.builder()
+                    .itemId(UUID.randomUUID())
+                    .order(order)
+                    .productId(UUID.randomUUID())
+                    .quantity(i % 5 + 1)
+                    .build());
+        }
+        return order;
+    }
+
+    static CreateOrderRequest createOrderRequest(int itemCount) {
+        List<OrderItemRequest> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            items.add(new OrderItemRequest(UUID.randomUUID(), i % 5 + 1));
+        }
+        return CreateOrderRequest.builder()
+                .customerId(UUID.randomUUID())
+                .items(items)
+                .shippingAddress(new ShippingAddressRequest("EC", "Quito", "Av. General Rumiñahui", "171103"))
+                .paymentReference("pay_" + UUID.randomUUID())
+                .build();
+    }
+}
@@ -0,0 +1,57 @@
+package ec.edu.espe.orderservice.benchmarks;
+
+import ec.edu.espe.orderservice.application.dto.CreateOrderRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bean Validation of CreateOrderRequest as done by @Valid on the controller, valid and invalid payloads.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CreateOrderRequestValidationBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int items;
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private CreateOrderRequest validRequest;
+    private CreateOrderRequest invalidRequest;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        validRequest = BenchmarkData.createOrderRequest(items);
+
+        invalidRequest = BenchmarkData.createOrderRequest(items);
+        invalidRequest.setPaymentReference(" ");
+        invalidRequest.getItems().get(0).setQuantity(0);
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CreateOrderRequest>> valid() {
+        return validator.validate(validRequest);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CreateOrderRequest>> invalid() {
+        return validator.validate(invalidRequest);
+    }
+}
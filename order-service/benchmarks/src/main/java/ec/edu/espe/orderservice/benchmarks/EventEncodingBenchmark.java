@@ -0,0 +1,85 @@
+package ec.edu.espe.orderservice.benchmarks;
+
+import ec.edu.espe.orderservice.infrastructure.messaging.converter.Jackson2CborMessageConverter;
+import ec.edu.espe.orderservice.infrastructure.messaging.event.OrderCreatedEvent;
+import ec.edu.espe.orderservice.infrastructure.messaging.event.StockReservedEvent;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OrderCreated / StockReserved wire formats: JSON against the CBOR event schema.
+ * Encoded sizes are printed once per trial ("# payload bytes ...") next to the timings.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventEncodingBenchmark {
+
+    @Param({"application/json", "application/cbor"})
+    public String contentType;
+
+    @Param({"1", "10", "100"})
+    public int items;
+
+    private MessageConverter converter;
+    private OrderCreatedEvent orderCreated;
+    private StockReservedEvent stockReserved;
+    private Message orderCreatedMessage;
+    private Message stockReservedMessage;
+
+    @Setup
+    public void setUp() {
+        converter = Jackson2CborMessageConverter.CONTENT_TYPE_CBOR.equals(contentType)
+                ? new Jackson2CborMessageConverter()
+                : new Jackson2JsonMessageConverter();
+
+        List<OrderCreatedEvent.OrderItemEvent> orderItems = new ArrayList<>(items);
+        List<StockReservedEvent.ReservedItem> reservedItems = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            UUID productId = UUID.randomUUID();
+            orderItems.add(new OrderCreatedEvent.OrderItemEvent(productId, i + 1));
+            reservedItems.add(new StockReservedEvent.ReservedItem(productId, i + 1));
+        }
+        orderCreated = new OrderCreatedEvent("OrderCreated", UUID.randomUUID(), UUID.randomUUID(),
+                Instant.now(), orderItems);
+        stockReserved = new StockReservedEvent("StockReserved", orderCreated.getOrderId(),
+                orderCreated.getCorrelationId(), reservedItems, Instant.now());
+
+        orderCreatedMessage = encodeOrderCreated();
+        stockReservedMessage = encodeStockReserved();
+        System.out.printf("%n# payload bytes %s items=%d: OrderCreated=%d StockReserved=%d%n", contentType, items,
+                orderCreatedMessage.getBody().length, stockReservedMessage.getBody().length);
+    }
+
+    @Benchmark
+    public Message encodeOrderCreated() {
+        return converter.toMessage(orderCreated, new MessageProperties());
+    }
+
+    @Benchmark
+    public Object decodeOrderCreated() {
+        return converter.fromMessage(orderCreatedMessage);
+    }
+
+    @Benchmark
+    public Message encodeStockReserved() {
+        return converter.toMessage(stockReserved, new MessageProperties());
+    }
+
+    @Benchmark
+    public Object decodeStockReserved() {
+        return converter.fromMessage(stockReservedMessage);
+    }
+}
@@ -0,0 +1,64 @@
+package ec.edu.espe.orderservice.benchmarks;
+
+import ec.edu.espe.orderservice.domain.model.Order;
+import ec.edu.espe.orderservice.infrastructure.messaging.event.OrderCreatedEvent;
+import ec.edu.espe.orderservice.infrastructure.messaging.publisher.OrderEventFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The publish path of RabbitMQEventPublisher without the broker:
+ * building the OrderCreatedEvent from the aggregate and serializing it to an AMQP message.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderCreatedEventBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int items;
+
+    private OrderEventFactory orderEventFactory;
+    private MessageConverter messageConverter;
+    private Order order;
+    private OrderCreatedEvent event;
+
+    @Setup
+    public void setUp() {
+        orderEventFactory = new OrderEventFactory();
+        messageConverter = new Jackson2JsonMessageConverter();
+        order = BenchmarkData.order(items);
+        event = orderEventFactory.toOrderCreatedEvent(order);
+    }
+
+    @Benchmark
+    public OrderCreatedEvent build() {
+        return orderEventFactory.toOrderCreatedEvent(order);
+    }
+
+    @Benchmark
+    public Message serialize() {
+        return messageConverter.toMessage(event, properties());
+    }
+
+    @Benchmark
+    public Message buildAndSerialize() {
+        return messageConverter.toMessage(orderEventFactory.toOrderCreatedEvent(order), properties());
+    }
+
+    private static MessageProperties properties() {
+        MessageProperties properties = new MessageProperties();
+        properties.setDeliveryMode(MessageDeliveryMode.PERSISTENT);
+        properties.setType("OrderCreated");
+        return properties;
+    }
+}
@@ -0,0 +1,37 @@
+package ec.edu.espe.orderservice.benchmarks;
+
+import ec.edu.espe.orderservice.application.dto.OrderResponse;
+import ec.edu.espe.orderservice.application.service.impl.OrderMapper;
+import ec.edu.espe.orderservice.domain.model.Order;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OrderMapper.toOrderResponse across order sizes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderMapperBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    public int items;
+
+    private OrderMapper orderMapper;
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        orderMapper = new OrderMapper();
+        order = BenchmarkData.order(items);
+    }
+
+    @Benchmark
+    public OrderResponse toOrderResponse() {
+        return orderMapper.toOrderResponse(order);
+    }
+}
@@ -0,0 +1,97 @@
+package ec.edu.espe.orderservice.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ec.edu.espe.orderservice.infrastructure.messaging.consumer.StockResponseDecoder;
+import ec.edu.espe.orderservice.infrastructure.messaging.event.StockRejectedEvent;
+import ec.edu.espe.orderservice.infrastructure.messaging.event.StockReservedEvent;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stock response decoding: the original per-message ObjectMapper + string sniffing path
+ * against StockResponseDecoder with and without an AMQP type hint.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StockResponseDecodingBenchmark {
+
+    @Param({"StockReserved", "StockRejected"})
+    public String eventType;
+
+    private Message untypedMessage;
+    private Message typedMessage;
+    private StockResponseDecoder decoder;
+
+    @Setup
+    public void setUp() {
+        byte[] body = ("StockReserved".equals(eventType) ? reservedJson() : rejectedJson())
+                .getBytes(StandardCharsets.UTF_8);
+
+        MessageProperties untyped = new MessageProperties();
+        untyped.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        untypedMessage = new Message(body, untyped);
+
+        MessageProperties typed = new MessageProperties();
+        typed.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        typed.setType(eventType);
+        typedMessage = new Message(body, typed);
+
+        decoder = new StockResponseDecoder(Jackson2ObjectMapperBuilder.json().build());
+    }
+
+    /**
+     * The pre-decoder consumer: copy to String, sniff with contains(), build a mapper per message
+     */
+    @Benchmark
+    public Object legacyStringSniffing() throws Exception {
+        String content = new String(untypedMessage.getBody(), StandardCharsets.UTF_8);
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.findAndRegisterModules();
+        if (content.contains("\"eventType\":\"StockReserved\"")) {
+            return mapper.readValue(content, StockReservedEvent.class);
+        } else if (content.contains("\"eventType\":\"StockRejected\"")) {
+            return mapper.readValue(content, StockRejectedEvent.class);
+        }
+        return null;
+    }
+
+    @Benchmark
+    public Object decoderTreeDispatch() {
+        return decoder.decode(untypedMessage);
+    }
+
+    @Benchmark
+    public Object decoderTypeHeader() {
+        return decoder.decode(typedMessage);
+    }
+
+    static String reservedJson() {
+        StringBuilder items = new StringBuilder();
+        for (int i = 0; i < 5; i++) {
+            if (i > 0) {
+                items.append(',');
+            }
+            items.append("{\"productId\":\"").append(UUID.randomUUID()).append("\",\"quantity\":").append(i + 1).append('}');
+        }
+        return "{\"eventType\":\"StockReserved\",\"orderId\":\"" + UUID.randomUUID()
+                + "\",\"correlationId\":\"" + UUID.randomUUID()
+                + "\",\"reservedItems\":[" + items + "],\"reservedAt\":1737471002}";
+    }
+
+    static String rejectedJson() {
+        return "{\"eventType\":\"StockRejected\",\"orderId\":\"" + UUID.randomUUID()
+                + "\",\"correlationId\":\"" + UUID.randomUUID()
+                + "\",\"reason\":\"Insufficient stock for product " + UUID.randomUUID()
+                + "\",\"rejectedAt\":1737471002}";
+    }
+}
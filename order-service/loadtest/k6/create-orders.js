@@ -0,0 +1,51 @@
+// Constant-arrival-rate load test for POST /api/v1/orders
+//
+//   k6 run -e BASE_URL=http://localhost:8080 -e RATE=500 -e DURATION=2m loadtest/k6/create-orders.js
+//
+// Run it once against the default (platform thread) mode and once with SPRING_PROFILES_ACTIVE=vthreads
+// on the same hardware, then compare http_reqs/s and the p(99) of http_req_duration in the summary.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+
+export const options = {
+  scenarios: {
+    create_orders: {
+      executor: 'constant-arrival-rate',
+      rate: Number(__ENV.RATE || 500),
+      timeUnit: '1s',
+      duration: __ENV.DURATION || '2m',
+      preAllocatedVUs: Number(__ENV.VUS || 200),
+      maxVUs: Number(__ENV.MAX_VUS || 2000),
+    },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(90)', 'p(99)', 'max'],
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+  },
+};
+
+function uuid() {
+  return 'xxxxxxxx-xxxx-4xxx-yxxx-xxxxxxxxxxxx'.replace(/[xy]/g, (c) => {
+    const r = (Math.random() * 16) | 0;
+    return (c === 'x' ? r : (r & 0x3) | 0x8).toString(16);
+  });
+}
+
+export default function () {
+  const payload = JSON.stringify({
+    customerId: uuid(),
+    items: [
+      { productId: 'a3c2b1d0-6b0e-4f2b-9c1a-2d3f4a5b6c7d', quantity: 1 },
+      { productId: 'b7e8c9d1-2f3a-4b5c-8d9e-1a2b3c4d5e6f', quantity: 2 },
+    ],
+    shippingAddress: { country: 'EC', city: 'Quito', street: 'Av. Amazonas', postalCode: '170135' },
+    paymentReference: `pay_${uuid()}`,
+  });
+
+  const res = http.post(`${BASE_URL}/api/v1/orders`, payload, {
+    headers: { 'Content-Type': 'application/json' },
+  });
+  check(res, { 'status is 201': (r) => r.status === 201 });
+}
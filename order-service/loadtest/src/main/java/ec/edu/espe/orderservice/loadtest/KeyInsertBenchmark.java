@@ -0,0 +1,156 @@
+package ec.edu.espe.orderservice.loadtest;
+
+import ec.edu.espe.orderservice.domain.model.UuidV7;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Key Insert Benchmark - Primary-key insert throughput with random (v4) against time-ordered (v7) UUIDs
+ * Inserts the same number of order-shaped rows into a table keyed by each kind of id and reports, per kind,
+ * throughput every report interval (it degrades once the index outgrows shared_buffers), the primary-key
+ * index size and leaf density, and the WAL written.
+ *
+ *   mvn -q compile exec:java@key-insert-benchmark -Dkeybench.rows=10000000
+ */
+public final class KeyInsertBenchmark {
+
+    private static final String TABLE_PREFIX = "key_bench_";
+
+    private final String jdbcUrl;
+    private final Properties connectionProperties;
+    private final long rows;
+    private final int threads;
+    private final int batchSize;
+    private final long reportEvery;
+
+    private KeyInsertBenchmark(String jdbcUrl, Properties connectionProperties) {
+        this.jdbcUrl = jdbcUrl;
+        this.connectionProperties = connectionProperties;
+        this.rows = Long.getLong("keybench.rows", 10_000_000);
+        this.threads = Integer.getInteger("keybench.threads", 4);
+        this.batchSize = Integer.getInteger("keybench.batch-size", 1000);
+        this.reportEvery = Long.getLong("keybench.report-every", 1_000_000);
+    }
+
+    public static void main(String[] args) throws Exception {
+        String image = System.getProperty("keybench.postgres-image", "postgres:15-alpine");
+        String sharedBuffers = System.getProperty("keybench.shared-buffers", "256MB");
+
+        try (PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(DockerImageName.parse(image)
+                .asCompatibleSubstituteFor("postgres"))) {
+            postgres.withCommand("postgres", "-c", "shared_buffers=" + sharedBuffers, "-c", "max_wal_size=4GB");
+            postgres.start();
+
+            Properties properties = new Properties();
+            properties.setProperty("user", postgres.getUsername());
+            properties.setProperty("password", postgres.getPassword());
+            properties.setProperty("reWriteBatchedInserts", "true");
+
+            KeyInsertBenchmark benchmark = new KeyInsertBenchmark(postgres.getJdbcUrl(), properties);
+            System.out.printf("== Primary key insert benchmark ==%nrows=%d threads=%d batch=%d shared_buffers=%s%n",
+                    benchmark.rows, benchmark.threads, benchmark.batchSize, sharedBuffers);
+            for (String kind : System.getProperty("keybench.kinds", "v4,v7").split(",")) {
+                benchmark.run(kind.trim(), "v7".equals(kind.trim()) ? UuidV7::next : UUID::randomUUID);
+            }
+        }
+    }
+
+    private void run(String kind, Supplier<UUID> ids) throws Exception {
+        String table = TABLE_PREFIX + kind;
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE EXTENSION IF NOT EXISTS pgstattuple");
+            statement.execute("DROP TABLE IF EXISTS " + table);
+            statement.execute("CREATE TABLE " + table + " (order_id uuid PRIMARY KEY, customer_id uuid NOT NULL, "
+                    + "status varchar(20) NOT NULL, created_at timestamptz NOT NULL)");
+            statement.execute("CHECKPOINT");
+        }
+        String walStart = queryString("SELECT pg_current_wal_lsn()::text");
+
+        AtomicLong inserted = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long start = System.nanoTime();
+        List<Future<?>> writers = new ArrayList<>(threads);
+        for (int i = 0; i < threads; i++) {
+            long share = rows / threads + (i < rows % threads ? 1 : 0);
+            writers.add(executor.submit(() -> insert(table, ids, share, inserted)));
+        }
+
+        long lastRows = 0;
+        long lastNanos = start;
+        while (!writers.stream().allMatch(Future::isDone)) {
+            Thread.sleep(200);
+            long current = inserted.get();
+            if (current - lastRows >= reportEvery) {
+                long now = System.nanoTime();
+                System.out.printf("%s rows=%,d interval=%.0f rows/s%n", kind, current,
+                        (current - lastRows) * 1e9 / (now - lastNanos));
+                lastRows = current;
+                lastNanos = now;
+            }
+        }
+        for (Future<?> writer : writers) {
+            writer.get();
+        }
+        executor.shutdown();
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        String walBytes = queryString("SELECT pg_size_pretty(pg_wal_lsn_diff(pg_current_wal_lsn(), '" + walStart + "'))");
+        String indexSize = queryString("SELECT pg_size_pretty(pg_relation_size('" + table + "_pkey'))");
+        String leafDensity = queryString("SELECT avg_leaf_density::text FROM pgstatindex('" + table + "_pkey')");
+        System.out.printf("%s total rows=%,d time=%.1fs throughput=%.0f rows/s pkey=%s leaf-density=%s%% wal=%s%n",
+                kind, inserted.get(), seconds, inserted.get() / seconds, indexSize, leafDensity, walBytes);
+    }
+
+    private Void insert(String table, Supplier<UUID> ids, long count, AtomicLong inserted) throws SQLException {
+        try (Connection connection = connect();
+             PreparedStatement insert = connection.prepareStatement("INSERT INTO " + table
+                     + " (order_id, customer_id, status, created_at) VALUES (?, ?, ?, ?)")) {
+            connection.setAutoCommit(false);
+            UUID customerId = UUID.randomUUID();
+            for (long i = 1; i <= count; i++) {
+                insert.setObject(1, ids.get());
+                insert.setObject(2, customerId);
+                insert.setString(3, "PENDING");
+                insert.setTimestamp(4, Timestamp.from(Instant.now()));
+                insert.addBatch();
+                if (i % batchSize == 0 || i == count) {
+                    insert.executeBatch();
+                    connection.commit();
+                    inserted.addAndGet(i % batchSize == 0 ? batchSize : i % batchSize);
+                }
+            }
+        }
+        return null;
+    }
+
+    private String queryString(String sql) throws SQLException {
+        try (Connection connection = connect();
+             Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(sql)) {
+            result.next();
+            return result.getString(1);
+        }
+    }
+
+    private Connection connect() throws SQLException {
+        return DriverManager.getConnection(jdbcUrl, connectionProperties);
+    }
+}
@@ -0,0 +1,92 @@
+package ec.edu.espe.orderservice.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ec.edu.espe.orderservice.OrderServiceApplication;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.RabbitMQContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.net.URI;
+
+/**
+ * Load Test Harness - Runs the create -> reserve -> confirm loop without docker-compose
+ * Starts PostgreSQL and RabbitMQ in Testcontainers, boots the order-service in this JVM against them,
+ * replaces inventory-service with SimulatedInventoryResponder and drives POST /api/v1/orders at a fixed rate.
+ *
+ *   mvn -q compile exec:java -Dloadtest.rate=500 -Dloadtest.duration-seconds=120
+ */
+public final class LoadTestHarness {
+
+    private LoadTestHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+        try (PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(DockerImageName.parse(settings.postgresImage())
+                     .asCompatibleSubstituteFor("postgres"));
+             RabbitMQContainer rabbitmq = new RabbitMQContainer(DockerImageName.parse(settings.rabbitmqImage())
+                     .asCompatibleSubstituteFor("rabbitmq"))) {
+            postgres.start();
+            rabbitmq.start();
+
+            try (ConfigurableApplicationContext orderService = startOrderService(postgres, rabbitmq, args)) {
+                // Not AutoCloseable: destroyed explicitly once the responder has stopped
+                CachingConnectionFactory connectionFactory = new CachingConnectionFactory(
+                        rabbitmq.getHost(), rabbitmq.getAmqpPort());
+                connectionFactory.setUsername(rabbitmq.getAdminUsername());
+                connectionFactory.setPassword(rabbitmq.getAdminPassword());
+                try {
+                    Environment environment = orderService.getEnvironment();
+                    try (SimulatedInventoryResponder responder = new SimulatedInventoryResponder(
+                            connectionFactory,
+                            orderService.getBean(MessageConverter.class),
+                            environment.getRequiredProperty("rabbitmq.exchange.name"),
+                            environment.getRequiredProperty("rabbitmq.queue.order-created"),
+                            environment.getRequiredProperty("rabbitmq.routing-key.stock-reserved"),
+                            environment.getRequiredProperty("rabbitmq.routing-key.stock-rejected"),
+                            settings.rejectRatio(),
+                            settings.responderDelay())) {
+                        responder.start();
+
+                        URI baseUri = URI.create("http://localhost:" + environment.getRequiredProperty("local.server.port"));
+                        OrderLoadGenerator.Result result = new OrderLoadGenerator(
+                                baseUri, settings, orderService.getBean(ObjectMapper.class)).run();
+                        result.print(System.out);
+                    }
+                } finally {
+                    connectionFactory.destroy();
+                }
+            }
+        }
+    }
+
+    /**
+     * Boots the order-service with its own application.properties, overriding only connections and log noise;
+     * extra --key=value arguments are passed through (e.g. --spring.profiles.active=vthreads)
+     */
+    private static ConfigurableApplicationContext startOrderService(PostgreSQLContainer<?> postgres,
+                                                                   RabbitMQContainer rabbitmq,
+                                                                   String[] args) {
+        return new SpringApplicationBuilder(OrderServiceApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=" + postgres.getJdbcUrl(),
+                        "spring.datasource.username=" + postgres.getUsername(),
+                        "spring.datasource.password=" + postgres.getPassword(),
+                        "spring.rabbitmq.host=" + rabbitmq.getHost(),
+                        "spring.rabbitmq.port=" + rabbitmq.getAmqpPort(),
+                        "spring.rabbitmq.username=" + rabbitmq.getAdminUsername(),
+                        "spring.rabbitmq.password=" + rabbitmq.getAdminPassword(),
+                        "spring.jpa.show-sql=false",
+                        "logging.level.ec.edu.espe.orderservice=WARN",
+                        "logging.level.org.springframework.amqp=WARN",
+                        "logging.level.org.springframework.amqp.rabbit.listener=WARN")
+                .run(args);
+    }
+}
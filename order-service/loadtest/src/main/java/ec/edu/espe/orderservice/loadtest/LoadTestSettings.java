@@ -0,0 +1,40 @@
+package ec.edu.espe.orderservice.loadtest;
+
+import java.time.Duration;
+
+/**
+ * Load test settings, read from -Dloadtest.* system properties
+ *
+ * @param rate              order creations per second (open loop, constant arrival rate)
+ * @param warmup            time spent at rate before recording starts
+ * @param duration          recorded time at rate
+ * @param itemsPerOrder     line items in each order
+ * @param rejectRatio       share of orders the simulated inventory rejects (0..1)
+ * @param responderDelay    time the simulated inventory takes before answering
+ * @param terminalTimeout   how long to wait for an order to reach CONFIRMED/CANCELLED
+ * @param postgresImage     PostgreSQL image for the database container
+ * @param rabbitmqImage     RabbitMQ image for the broker container
+ */
+record LoadTestSettings(int rate,
+                        Duration warmup,
+                        Duration duration,
+                        int itemsPerOrder,
+                        double rejectRatio,
+                        Duration responderDelay,
+                        Duration terminalTimeout,
+                        String postgresImage,
+                        String rabbitmqImage) {
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("loadtest.rate", 200),
+                Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 15)),
+                Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 60)),
+                Integer.getInteger("loadtest.items", 3),
+                Double.parseDouble(System.getProperty("loadtest.reject-ratio", "0.1")),
+                Duration.ofMillis(Long.getLong("loadtest.responder-delay-ms", 0)),
+                Duration.ofSeconds(Long.getLong("loadtest.terminal-timeout-seconds", 30)),
+                System.getProperty("loadtest.postgres-image", "postgres:15-alpine"),
+                System.getProperty("loadtest.rabbitmq-image", "rabbitmq:3.12-management"));
+    }
+}
@@ -0,0 +1,207 @@
+package ec.edu.espe.orderservice.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ec.edu.espe.orderservice.application.dto.CreateOrderRequest;
+import ec.edu.espe.orderservice.application.dto.OrderItemRequest;
+import ec.edu.espe.orderservice.application.dto.ShippingAddressRequest;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Order Load Generator - Open-loop driver for POST /api/v1/orders
+ * Requests are issued on a fixed schedule regardless of how fast responses come back, and latency is measured
+ * from the scheduled send time, so a stalled server shows up in the percentiles (no coordinated omission).
+ * Each created order is then long-polled until it reaches CONFIRMED or CANCELLED.
+ */
+class OrderLoadGenerator {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final URI ordersUri;
+    private final LoadTestSettings settings;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+
+    private final Recorder createLatency = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+    private final Recorder terminalLatency = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+    private final AtomicLong confirmed = new AtomicLong();
+    private final AtomicLong cancelled = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicLong terminalTimeouts = new AtomicLong();
+
+    OrderLoadGenerator(URI baseUri, LoadTestSettings settings, ObjectMapper objectMapper) {
+        this.ordersUri = baseUri.resolve("/api/v1/orders");
+        this.settings = settings;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    Result run() throws InterruptedException {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / settings.rate();
+        long warmupRequests = settings.warmup().toSeconds() * settings.rate();
+        long totalRequests = warmupRequests + settings.duration().toSeconds() * settings.rate();
+        List<CompletableFuture<Void>> measured = new ArrayList<>((int) (totalRequests - warmupRequests));
+
+        long start = System.nanoTime();
+        for (long i = 0; i < totalRequests; i++) {
+            long scheduledAt = start + i * intervalNanos;
+            long wait = scheduledAt - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            // Warmup requests run the full loop but are not recorded
+            CompletableFuture<Void> order = createAndAwait(scheduledAt, i >= warmupRequests);
+            if (i >= warmupRequests) {
+                measured.add(order);
+            }
+        }
+        long sendingEnded = System.nanoTime();
+
+        try {
+            CompletableFuture.allOf(measured.toArray(CompletableFuture[]::new))
+                    .get(settings.terminalTimeout().toSeconds() + 10, TimeUnit.SECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            // Stragglers are counted as timeouts/errors by their own callbacks
+        }
+
+        long measuredNanos = sendingEnded - (start + warmupRequests * intervalNanos);
+        return new Result(settings, measured.size(), measuredNanos,
+                createLatency.getIntervalHistogram(), terminalLatency.getIntervalHistogram(),
+                confirmed.get(), cancelled.get(), errors.get(), terminalTimeouts.get());
+    }
+
+    private CompletableFuture<Void> createAndAwait(long scheduledAt, boolean record) {
+        HttpRequest create = HttpRequest.newBuilder(ordersUri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(createOrderBody()))
+                .build();
+
+        return httpClient.sendAsync(create, HttpResponse.BodyHandlers.ofByteArray())
+                .thenCompose(response -> {
+                    if (response.statusCode() != 201) {
+                        throw new IllegalStateException("Create returned HTTP " + response.statusCode());
+                    }
+                    if (record) {
+                        createLatency.recordValue(micros(System.nanoTime() - scheduledAt));
+                    }
+                    return awaitTerminal(readTree(response.body()).get("orderId").asText());
+                })
+                .thenAccept(order -> {
+                    String status = order.path("status").asText();
+                    if (!record) {
+                        return;
+                    }
+                    if (!"CONFIRMED".equals(status) && !"CANCELLED".equals(status)) {
+                        terminalTimeouts.incrementAndGet();
+                    } else {
+                        terminalLatency.recordValue(micros(System.nanoTime() - scheduledAt));
+                        ("CONFIRMED".equals(status) ? confirmed : cancelled).incrementAndGet();
+                    }
+                })
+                .exceptionally(error -> {
+                    if (record) {
+                        errors.incrementAndGet();
+                    }
+                    return null;
+                });
+    }
+
+    private CompletableFuture<JsonNode> awaitTerminal(String orderId) {
+        URI uri = URI.create(ordersUri + "/" + orderId
+                + "?waitFor=CONFIRMED,CANCELLED&timeout=" + settings.terminalTimeout().toSeconds());
+        HttpRequest poll = HttpRequest.newBuilder(uri).GET().build();
+        return httpClient.sendAsync(poll, HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(response -> readTree(response.body()));
+    }
+
+    private byte[] createOrderBody() {
+        List<OrderItemRequest> items = new ArrayList<>(settings.itemsPerOrder());
+        for (int i = 0; i < settings.itemsPerOrder(); i++) {
+            items.add(new OrderItemRequest(UUID.randomUUID(), i + 1));
+        }
+        CreateOrderRequest request = CreateOrderRequest.builder()
+                .customerId(UUID.randomUUID())
+                .items(items)
+                .shippingAddress(new ShippingAddressRequest("EC", "Quito", "Av. Amazonas", "170135"))
+                .paymentReference("pay_" + UUID.randomUUID())
+                .build();
+        try {
+            return objectMapper.writeValueAsBytes(request);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private JsonNode readTree(byte[] body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long micros(long nanos) {
+        return Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), HIGHEST_TRACKABLE_MICROS);
+    }
+
+    /**
+     * Outcome of the recorded phase; latencies are in microseconds
+     */
+    record Result(LoadTestSettings settings,
+                  long requests,
+                  long measuredNanos,
+                  Histogram createLatency,
+                  Histogram terminalLatency,
+                  long confirmed,
+                  long cancelled,
+                  long errors,
+                  long terminalTimeouts) {
+
+        void print(PrintStream out) {
+            double seconds = measuredNanos / 1e9;
+            out.println();
+            out.println("== Order service load test ==");
+            out.printf("rate=%d/s warmup=%ds duration=%ds items=%d reject-ratio=%.2f responder-delay=%dms%n",
+                    settings.rate(), settings.warmup().toSeconds(), settings.duration().toSeconds(),
+                    settings.itemsPerOrder(), settings.rejectRatio(), settings.responderDelay().toMillis());
+            out.printf("requests=%d confirmed=%d cancelled=%d errors=%d terminal-timeouts=%d%n",
+                    requests, confirmed, cancelled, errors, terminalTimeouts);
+            printLatency(out, "create", createLatency, seconds);
+            printLatency(out, "time-to-terminal", terminalLatency, seconds);
+        }
+
+        private static void printLatency(PrintStream out, String name, Histogram histogram, double seconds) {
+            out.printf("%-17s count=%d throughput=%.1f/s p50=%.2fms p99=%.2fms p999=%.2fms max=%.2fms%n",
+                    name,
+                    histogram.getTotalCount(),
+                    histogram.getTotalCount() / seconds,
+                    histogram.getValueAtPercentile(50) / 1000.0,
+                    histogram.getValueAtPercentile(99) / 1000.0,
+                    histogram.getValueAtPercentile(99.9) / 1000.0,
+                    histogram.getMaxValue() / 1000.0);
+        }
+    }
+}
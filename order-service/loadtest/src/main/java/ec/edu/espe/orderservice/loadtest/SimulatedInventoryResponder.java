@@ -0,0 +1,116 @@
+package ec.edu.espe.orderservice.loadtest;
+
+import ec.edu.espe.orderservice.infrastructure.messaging.event.OrderCreatedEvent;
+import ec.edu.espe.orderservice.infrastructure.messaging.event.StockRejectedEvent;
+import ec.edu.espe.orderservice.infrastructure.messaging.event.StockReservedEvent;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Simulated Inventory Responder - Stands in for inventory-service
+ * Consumes order.created and answers on the exchange with StockReserved, or StockRejected for a
+ * configurable share of orders, after an optional delay. Stock levels are not modelled.
+ */
+class SimulatedInventoryResponder implements AutoCloseable {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final MessageConverter messageConverter;
+    private final SimpleMessageListenerContainer container;
+    private final ScheduledExecutorService delayScheduler = Executors.newSingleThreadScheduledExecutor();
+    private final String exchange;
+    private final String reservedRoutingKey;
+    private final String rejectedRoutingKey;
+    private final double rejectRatio;
+    private final Duration delay;
+
+    SimulatedInventoryResponder(ConnectionFactory connectionFactory,
+                                MessageConverter messageConverter,
+                                String exchange,
+                                String orderCreatedQueue,
+                                String reservedRoutingKey,
+                                String rejectedRoutingKey,
+                                double rejectRatio,
+                                Duration delay) {
+        this.rabbitTemplate = new RabbitTemplate(connectionFactory);
+        this.messageConverter = messageConverter;
+        this.exchange = exchange;
+        this.reservedRoutingKey = reservedRoutingKey;
+        this.rejectedRoutingKey = rejectedRoutingKey;
+        this.rejectRatio = rejectRatio;
+        this.delay = delay;
+
+        this.container = new SimpleMessageListenerContainer(connectionFactory);
+        container.setQueueNames(orderCreatedQueue);
+        container.setConcurrentConsumers(4);
+        container.setPrefetchCount(250);
+        container.setMessageListener(this::onOrderCreated);
+    }
+
+    void start() {
+        container.start();
+    }
+
+    private void onOrderCreated(Message message) {
+        OrderCreatedEvent order = (OrderCreatedEvent) messageConverter.fromMessage(message);
+        boolean reject = ThreadLocalRandom.current().nextDouble() < rejectRatio;
+        Message response = reject ? rejected(order) : reserved(order);
+        String routingKey = reject ? rejectedRoutingKey : reservedRoutingKey;
+
+        if (delay.isZero()) {
+            rabbitTemplate.send(exchange, routingKey, response);
+        } else {
+            delayScheduler.schedule(() -> rabbitTemplate.send(exchange, routingKey, response),
+                    delay.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private Message reserved(OrderCreatedEvent order) {
+        StockReservedEvent event = StockReservedEvent.builder()
+                .eventType("StockReserved")
+                .orderId(order.getOrderId())
+                .correlationId(order.getCorrelationId())
+                .reservedItems(order.getItems().stream()
+                        .map(item -> new StockReservedEvent.ReservedItem(item.getProductId(), item.getQuantity()))
+                        .collect(Collectors.toList()))
+                .reservedAt(Instant.now())
+                .build();
+        return toMessage(event, "StockReserved");
+    }
+
+    private Message rejected(OrderCreatedEvent order) {
+        StockRejectedEvent event = StockRejectedEvent.builder()
+                .eventType("StockRejected")
+                .orderId(order.getOrderId())
+                .correlationId(order.getCorrelationId())
+                .reason("Insufficient stock (simulated)")
+                .rejectedAt(Instant.now())
+                .build();
+        return toMessage(event, "StockRejected");
+    }
+
+    private Message toMessage(Object event, String type) {
+        MessageProperties properties = new MessageProperties();
+        properties.setDeliveryMode(MessageDeliveryMode.PERSISTENT);
+        properties.setType(type);
+        return messageConverter.toMessage(event, properties);
+    }
+
+    @Override
+    public void close() {
+        container.stop();
+        delayScheduler.shutdownNow();
+    }
+}
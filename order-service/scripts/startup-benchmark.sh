@@ -0,0 +1,82 @@
+#!/bin/sh
+# Measure startup of an order-service container image against the running infrastructure stack
+# (cd ../infrastructure && docker-compose up -d, with the inventory-service running)
+#
+# Usage: ./startup-benchmark.sh <image> [runs]   e.g. ./startup-benchmark.sh order-service:native 5
+#   DOCKER_ARGS="-e JAVA_TOOL_OPTIONS=-Xshare:off" ./startup-benchmark.sh order-service:jvm   (JVM image without CDS)
+#
+# Columns (milliseconds from `docker run`):
+#   ready_ms              /actuator/health reports UP
+#   first_post_ms         first POST /api/v1/orders answered 201
+#   first_stock_resp_ms   that order reached a terminal status, i.e. the first stock.response was consumed
+#   reported_startup_s    "Started OrderServiceApplication in ..." from the log
+#   memory                container memory usage once the first stock response was applied
+set -e
+
+IMAGE=${1:?usage: $0 <image> [runs]}
+RUNS=${2:-3}
+NETWORK=${NETWORK:-infrastructure_ecommerce-network}
+PORT=${PORT:-18080}
+NAME=order-service-startup-bench
+BASE_URL="http://localhost:$PORT"
+
+# Unknown product: the inventory-service rejects it without touching real stock
+ORDER='{"customerId":"9f7a1e2a-31f6-4a53-b0d2-6f4f1c7a3b2e",
+  "items":[{"productId":"00000000-0000-0000-0000-000000000000","quantity":1}],
+  "shippingAddress":{"country":"EC","city":"Quito","street":"Av. Amazonas","postalCode":"170135"},
+  "paymentReference":"startup-benchmark"}'
+
+now_ms() {
+    date +%s%3N
+}
+
+cleanup() {
+    docker rm -f "$NAME" >/dev/null 2>&1 || true
+}
+trap cleanup EXIT
+
+check_running() {
+    if [ -z "$(docker ps -q -f name="$NAME")" ]; then
+        echo "container exited during startup:" >&2
+        docker logs "$NAME" >&2
+        exit 1
+    fi
+}
+
+echo "image,run,ready_ms,first_post_ms,first_stock_resp_ms,reported_startup_s,memory"
+i=1
+while [ "$i" -le "$RUNS" ]; do
+    cleanup
+    START=$(now_ms)
+    # shellcheck disable=SC2086
+    docker run -d --name "$NAME" --network "$NETWORK" -p "$PORT:8080" \
+        -e SPRING_DATASOURCE_URL=jdbc:postgresql://order-db:5432/orderdb \
+        -e SPRING_RABBITMQ_HOST=rabbitmq-ecommerce \
+        -e SPRING_RABBITMQ_PORT=5672 \
+        $DOCKER_ARGS "$IMAGE" >/dev/null
+
+    until curl -sf "$BASE_URL/actuator/health" 2>/dev/null | grep -q '"UP"'; do
+        check_running
+        sleep 0.05
+    done
+    READY=$(( $(now_ms) - START ))
+
+    until ORDER_ID=$(curl -sf -X POST -H 'Content-Type: application/json' -d "$ORDER" "$BASE_URL/api/v1/orders" \
+            | sed -n 's/.*"orderId":"\([^"]*\)".*/\1/p') && [ -n "$ORDER_ID" ]; do
+        check_running
+        sleep 0.05
+    done
+    FIRST_POST=$(( $(now_ms) - START ))
+
+    until curl -sf "$BASE_URL/api/v1/orders/$ORDER_ID?waitFor=CONFIRMED,CANCELLED&timeout=30" \
+            | grep -Eq '"status":"(CONFIRMED|CANCELLED)"'; do
+        check_running
+    done
+    FIRST_STOCK_RESPONSE=$(( $(now_ms) - START ))
+
+    REPORTED=$(docker logs "$NAME" 2>&1 | sed -n 's/.*Started OrderServiceApplication in \([0-9.]*\) seconds.*/\1/p' | head -1)
+    MEMORY=$(docker stats --no-stream --format '{{.MemUsage}}' "$NAME" | cut -d' ' -f1)
+
+    echo "$IMAGE,$i,$READY,$FIRST_POST,$FIRST_STOCK_RESPONSE,$REPORTED,$MEMORY"
+    i=$((i + 1))
+done
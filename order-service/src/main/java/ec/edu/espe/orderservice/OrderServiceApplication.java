@@ -1,9 +1,12 @@
 package ec.edu.espe.orderservice;
 
+import ec.edu.espe.orderservice.infrastructure.config.OrderServiceRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(OrderServiceRuntimeHints.class)
 public class OrderServiceApplication {
 
     public static void main(String[] args) {
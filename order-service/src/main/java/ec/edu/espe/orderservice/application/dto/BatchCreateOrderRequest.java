@@ -0,0 +1,27 @@
+package ec.edu.espe.orderservice.application.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * BatchCreateOrderRequest DTO
+ * Wraps a bulk import of orders so they can be persisted and published together
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchCreateOrderRequest {
+
+    @NotEmpty(message = "Batch must contain at least one order")
+    @Size(max = 1000, message = "Batch must not contain more than 1000 orders")
+    @Valid
+    private List<CreateOrderRequest> orders;
+}
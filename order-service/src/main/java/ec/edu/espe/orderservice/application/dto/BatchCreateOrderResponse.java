@@ -0,0 +1,21 @@
+package ec.edu.espe.orderservice.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * BatchCreateOrderResponse DTO - Per-order results, in request order
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchCreateOrderResponse {
+
+    private Integer accepted;
+    private List<CreateOrderResponse> orders;
+}
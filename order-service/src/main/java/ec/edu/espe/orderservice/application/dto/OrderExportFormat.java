@@ -0,0 +1,40 @@
+package ec.edu.espe.orderservice.application.dto;
+
+import ec.edu.espe.orderservice.application.exception.InvalidExportRequestException;
+
+import java.util.Locale;
+
+/**
+ * Output formats of the bulk order export (GET /api/v1/orders/export)
+ */
+public enum OrderExportFormat {
+
+    /** One JSON object per line */
+    NDJSON("application/x-ndjson", "ndjson"),
+    /** Header row, then one row per order; items as productId:quantity pairs separated by ';' */
+    CSV("text/csv;charset=UTF-8", "csv");
+
+    private final String mediaType;
+    private final String extension;
+
+    OrderExportFormat(String mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static OrderExportFormat fromParameter(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidExportRequestException("Unsupported export format: " + value + " (use ndjson or csv)");
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package ec.edu.espe.orderservice.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * OrderPageResponse DTO - One page of orders plus the cursor for the next page (null on the last page)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderPageResponse {
+
+    private List<OrderResponse> orders;
+    private String nextCursor;
+}
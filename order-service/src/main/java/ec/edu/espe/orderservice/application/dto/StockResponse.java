@@ -0,0 +1,23 @@
+package ec.edu.espe.orderservice.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * StockResponse DTO - Inventory's answer for one order, independent of the wire format
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockResponse {
+
+    private UUID orderId;
+    private UUID correlationId;
+    private boolean reserved;
+    private String reason; // For rejected responses
+}
@@ -0,0 +1,39 @@
+package ec.edu.espe.orderservice.application.event;
+
+import ec.edu.espe.orderservice.domain.model.OrderStatus;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * OrderStatusChangedEvent - In-process application event raised when an order changes state
+ * Listeners that react to committed state (caches, waiters) should use @TransactionalEventListener
+ * Remote events report a change committed by another instance (OrderStatusBroadcaster); they are published
+ * outside any transaction, so only listeners with fallbackExecution see them.
+ */
+@Getter
+@ToString
+public class OrderStatusChangedEvent {
+
+    private final UUID orderId;
+    private final OrderStatus status;
+    private final Instant createdAt;
+    private final boolean remote;
+
+    public OrderStatusChangedEvent(UUID orderId, OrderStatus status, Instant createdAt) {
+        this(orderId, status, createdAt, false);
+    }
+
+    private OrderStatusChangedEvent(UUID orderId, OrderStatus status, Instant createdAt, boolean remote) {
+        this.orderId = orderId;
+        this.status = status;
+        this.createdAt = createdAt;
+        this.remote = remote;
+    }
+
+    public static OrderStatusChangedEvent remote(UUID orderId, OrderStatus status) {
+        return new OrderStatusChangedEvent(orderId, status, null, true);
+    }
+}
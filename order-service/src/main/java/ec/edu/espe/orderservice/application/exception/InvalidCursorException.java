@@ -0,0 +1,11 @@
+package ec.edu.espe.orderservice.application.exception;
+
+/**
+ * Raised when a pagination cursor cannot be decoded
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String cursor, Throwable cause) {
+        super("Invalid cursor: " + cursor, cause);
+    }
+}
@@ -0,0 +1,11 @@
+package ec.edu.espe.orderservice.application.exception;
+
+/**
+ * Raised when the parameters of an order export are invalid
+ */
+public class InvalidExportRequestException extends RuntimeException {
+
+    public InvalidExportRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,20 @@
+package ec.edu.espe.orderservice.application.exception;
+
+import java.util.UUID;
+
+/**
+ * Raised when an order does not exist (or is not visible yet to the current transaction)
+ */
+public class OrderNotFoundException extends RuntimeException {
+
+    private final UUID orderId;
+
+    public OrderNotFoundException(UUID orderId) {
+        super("Order not found: " + orderId);
+        this.orderId = orderId;
+    }
+
+    public UUID getOrderId() {
+        return orderId;
+    }
+}
@@ -2,8 +2,17 @@ package ec.edu.espe.orderservice.application.service;
 
 import ec.edu.espe.orderservice.application.dto.CreateOrderRequest;
 import ec.edu.espe.orderservice.application.dto.CreateOrderResponse;
+import ec.edu.espe.orderservice.application.dto.OrderExportFormat;
+import ec.edu.espe.orderservice.application.dto.OrderPageResponse;
 import ec.edu.espe.orderservice.application.dto.OrderResponse;
+import ec.edu.espe.orderservice.application.dto.StockResponse;
 
+import ec.edu.espe.orderservice.domain.model.OrderStatus;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -18,18 +27,34 @@ public interface OrderService {
      */
     CreateOrderResponse createOrder(CreateOrderRequest request);
 
+    /**
+     * Create many orders in a single transaction (bulk imports)
+     * Results are returned in the same order as the requests
+     */
+    List<CreateOrderResponse> createOrders(List<CreateOrderRequest> requests);
+
     /**
      * Get order by ID
      */
     OrderResponse getOrderById(UUID orderId);
 
     /**
-     * Confirm order (called when stock is reserved)
+     * List orders matching the optional filters, oldest first, one keyset page at a time
+     * @param cursor nextCursor of the previous page, or null for the first page
+     */
+    OrderPageResponse listOrders(UUID customerId, OrderStatus status, Instant createdAfter, String cursor, int limit);
+
+    /**
+     * Write every order created in [from, to), optionally with the given status, to out in the given format,
+     * ordered by creation time. Orders are streamed from the database, so memory use does not depend on the count.
+     * @return the number of orders written
      */
-    void confirmOrder(UUID orderId);
+    long exportOrders(Instant from, Instant to, OrderStatus status, OrderExportFormat format, OutputStream out)
+            throws IOException;
 
     /**
-     * Cancel order (called when stock is rejected)
+     * Apply a batch of stock responses in one transaction
+     * The first response per order wins; orders that are not visible yet are returned for retry
      */
-    void cancelOrder(UUID orderId, String reason);
+    List<StockResponse> applyStockResponses(List<StockResponse> responses);
 }
@@ -0,0 +1,36 @@
+package ec.edu.espe.orderservice.application.service.impl;
+
+import ec.edu.espe.orderservice.application.exception.InvalidCursorException;
+import ec.edu.espe.orderservice.domain.model.Order;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque keyset cursor: the (createdAt, orderId) of the last order on a page, URL-safe Base64 encoded
+ */
+record OrderCursor(Instant createdAt, UUID orderId) {
+
+    private static final String SEPARATOR = "|";
+
+    static OrderCursor of(Order order) {
+        return new OrderCursor(order.getCreatedAt(), order.getOrderId());
+    }
+
+    static OrderCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new OrderCursor(Instant.parse(raw.substring(0, separator)), UUID.fromString(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException(cursor, e);
+        }
+    }
+
+    String encode() {
+        String raw = createdAt + SEPARATOR + orderId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,161 @@
+package ec.edu.espe.orderservice.application.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ec.edu.espe.orderservice.application.dto.OrderExportFormat;
+import ec.edu.espe.orderservice.domain.model.LineItem;
+import ec.edu.espe.orderservice.domain.model.Order;
+import ec.edu.espe.orderservice.domain.model.ShippingAddress;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Order Export Writer - Encodes exported orders one at a time onto the response stream
+ * Nothing is kept per order once it has been written; close() flushes but leaves the stream open.
+ */
+abstract class OrderExportWriter implements Closeable {
+
+    static OrderExportWriter create(OrderExportFormat format, OutputStream out, ObjectMapper objectMapper)
+            throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonWriter(out, objectMapper);
+            case CSV -> new CsvWriter(out);
+        };
+    }
+
+    abstract void write(Order order) throws IOException;
+
+    private static String text(Instant instant) {
+        return instant != null ? instant.toString() : null;
+    }
+
+    private static class NdjsonWriter extends OrderExportWriter {
+
+        private final JsonGenerator json;
+
+        NdjsonWriter(OutputStream out, ObjectMapper objectMapper) throws IOException {
+            this.json = objectMapper.getFactory().createGenerator(out)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.json.setRootValueSeparator(null);
+        }
+
+        @Override
+        void write(Order order) throws IOException {
+            json.writeStartObject();
+            json.writeStringField("orderId", order.getOrderId().toString());
+            json.writeStringField("customerId", order.getCustomerId().toString());
+            json.writeStringField("status", order.getStatus().name());
+            json.writeStringField("createdAt", text(order.getCreatedAt()));
+            json.writeStringField("updatedAt", text(order.getUpdatedAt()));
+            json.writeArrayFieldStart("items");
+            for (LineItem item : order.orderLines()) {
+                json.writeStartObject();
+                json.writeStringField("productId", item.productId().toString());
+                json.writeNumberField("quantity", item.quantity());
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+            ShippingAddress address = order.getShippingAddress();
+            if (address != null) {
+                json.writeObjectFieldStart("shippingAddress");
+                json.writeStringField("country", address.getCountry());
+                json.writeStringField("city", address.getCity());
+                json.writeStringField("street", address.getStreet());
+                json.writeStringField("postalCode", address.getPostalCode());
+                json.writeEndObject();
+            }
+            if (order.getPaymentReference() != null) {
+                json.writeStringField("paymentReference", order.getPaymentReference());
+            }
+            if (order.getCancellationReason() != null) {
+                json.writeStringField("reason", order.getCancellationReason());
+            }
+            json.writeEndObject();
+            json.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            json.close();
+        }
+    }
+
+    private static class CsvWriter extends OrderExportWriter {
+
+        private static final String HEADER = "order_id,customer_id,status,created_at,updated_at,items,"
+                + "country,city,street,postal_code,payment_reference,cancellation_reason\r\n";
+
+        private final Writer csv;
+
+        CsvWriter(OutputStream out) throws IOException {
+            this.csv = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+            this.csv.write(HEADER);
+        }
+
+        @Override
+        void write(Order order) throws IOException {
+            ShippingAddress address = order.getShippingAddress();
+            csv.write(order.getOrderId().toString());
+            csv.write(',');
+            csv.write(order.getCustomerId().toString());
+            csv.write(',');
+            csv.write(order.getStatus().name());
+            csv.write(',');
+            field(text(order.getCreatedAt()));
+            csv.write(',');
+            field(text(order.getUpdatedAt()));
+            csv.write(',');
+            List<LineItem> items = order.orderLines();
+            for (int i = 0; i < items.size(); i++) {
+                if (i > 0) {
+                    csv.write(';');
+                }
+                csv.write(items.get(i).productId().toString());
+                csv.write(':');
+                csv.write(Integer.toString(items.get(i).quantity()));
+            }
+            csv.write(',');
+            field(address != null ? address.getCountry() : null);
+            csv.write(',');
+            field(address != null ? address.getCity() : null);
+            csv.write(',');
+            field(address != null ? address.getStreet() : null);
+            csv.write(',');
+            field(address != null ? address.getPostalCode() : null);
+            csv.write(',');
+            field(order.getPaymentReference());
+            csv.write(',');
+            field(order.getCancellationReason());
+            csv.write("\r\n");
+        }
+
+        /**
+         * Writes a value, quoted per RFC 4180 when it contains a separator, quote or line break; null is empty
+         */
+        private void field(String value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                csv.write(value);
+                return;
+            }
+            csv.write('"');
+            csv.write(value.replace("\"", "\"\""));
+            csv.write('"');
+        }
+
+        @Override
+        public void close() throws IOException {
+            csv.flush();
+        }
+    }
+}
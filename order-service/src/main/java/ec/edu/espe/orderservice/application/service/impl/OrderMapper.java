@@ -19,10 +19,10 @@ public class OrderMapper {
                 .orderId(order.getOrderId())
                 .customerId(order.getCustomerId())
                 .status(order.getStatus().name())
-                .items(order.getItems().stream()
+                .items(order.orderLines().stream()
                         .map(item -> OrderItemResponse.builder()
-                                .productId(item.getProductId())
-                                .quantity(item.getQuantity())
+                                .productId(item.productId())
+                                .quantity(item.quantity())
                                 .build())
                         .collect(Collectors.toList()))
                 .updatedAt(order.getUpdatedAt());
@@ -0,0 +1,98 @@
+package ec.edu.espe.orderservice.application.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import ec.edu.espe.orderservice.application.dto.OrderResponse;
+import ec.edu.espe.orderservice.application.event.OrderStatusChangedEvent;
+import ec.edu.espe.orderservice.domain.model.OrderStatus;
+import ec.edu.espe.orderservice.infrastructure.logging.LogMarkers;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Order Response Cache - Bounded read-through cache for GET /api/v1/orders/{orderId}
+ * PENDING entries expire after a short TTL; CONFIRMED/CANCELLED entries never change and only leave on size eviction.
+ * Entries are invalidated after the transaction that changes an order's status commits.
+ * Hit/miss/eviction statistics are exported as the cache.* meters with cache=orders.
+ */
+@Component
+@Slf4j
+public class OrderResponseCache implements MeterBinder {
+
+    private final Cache<UUID, OrderResponse> cache;
+
+    public OrderResponseCache(@Value("${orders.cache.maximum-size:10000}") long maximumSize,
+                              @Value("${orders.cache.pending-ttl:2s}") Duration pendingTtl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new StatusAwareExpiry(pendingTtl.toNanos()))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Return the cached response or load it; loader exceptions propagate and nothing is cached
+     */
+    public OrderResponse get(UUID orderId, Function<UUID, OrderResponse> loader) {
+        return cache.get(orderId, loader);
+    }
+
+    public void invalidate(UUID orderId) {
+        cache.invalidate(orderId);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "orders");
+    }
+
+    // Runs before other commit listeners so they never read the stale entry
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        cache.invalidate(event.getOrderId());
+        log.debug(LogMarkers.PER_MESSAGE, "Invalidated cached order {} after transition to {}", event.getOrderId(), event.getStatus());
+    }
+
+    private static final class StatusAwareExpiry implements Expiry<UUID, OrderResponse> {
+
+        private final long pendingTtlNanos;
+
+        private StatusAwareExpiry(long pendingTtlNanos) {
+            this.pendingTtlNanos = pendingTtlNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(UUID key, OrderResponse value, long currentTime) {
+            return OrderStatus.PENDING.name().equals(value.getStatus()) ? pendingTtlNanos : Long.MAX_VALUE;
+        }
+
+        @Override
+        public long expireAfterUpdate(UUID key, OrderResponse value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(UUID key, OrderResponse value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
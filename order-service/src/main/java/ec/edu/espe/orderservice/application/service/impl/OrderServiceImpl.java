@@ -1,21 +1,47 @@
 package ec.edu.espe.orderservice.application.service.impl;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import ec.edu.espe.orderservice.application.dto.*;
+import ec.edu.espe.orderservice.application.event.OrderStatusChangedEvent;
+import ec.edu.espe.orderservice.application.exception.OrderNotFoundException;
 import ec.edu.espe.orderservice.application.service.OrderService;
+import ec.edu.espe.orderservice.domain.model.ItemStorage;
+import ec.edu.espe.orderservice.domain.model.LineItem;
 import ec.edu.espe.orderservice.domain.model.Order;
 import ec.edu.espe.orderservice.domain.model.OrderItem;
 import ec.edu.espe.orderservice.domain.model.OrderStatus;
 import ec.edu.espe.orderservice.domain.model.ShippingAddress;
 import ec.edu.espe.orderservice.domain.repository.OrderRepository;
+import ec.edu.espe.orderservice.domain.repository.OrderSearchCriteria;
+import ec.edu.espe.orderservice.domain.repository.TransitionedOrder;
+import ec.edu.espe.orderservice.infrastructure.archive.OrderArchive;
+import ec.edu.espe.orderservice.infrastructure.logging.LogMarkers;
 import ec.edu.espe.orderservice.infrastructure.messaging.publisher.EventPublisher;
+import ec.edu.espe.orderservice.infrastructure.metrics.OrderMetrics;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Order Service Implementation
@@ -30,12 +56,223 @@ public class OrderServiceImpl implements OrderService {
     private final OrderRepository orderRepository;
     private final EventPublisher eventPublisher;
     private final OrderMapper orderMapper;
+    private final OrderResponseCache orderResponseCache;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final OrderMetrics orderMetrics;
+    private final OrderArchive orderArchive;
+    private final ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${orders.persistence.item-storage:table}")
+    private ItemStorage itemStorage;
+
+    @Value("${orders.export.fetch-size:1000}")
+    private int exportFetchSize;
 
     @Override
     @Transactional
     public CreateOrderResponse createOrder(CreateOrderRequest request) {
-        log.info("Creating order for customer: {}", request.getCustomerId());
+        long start = System.nanoTime();
+        boolean created = false;
+        try {
+            // Save order
+            Order savedOrder = orderRepository.save(buildOrder(request));
+            log.info(LogMarkers.PER_MESSAGE, "Order {} created for customer {}",
+                    savedOrder.getOrderId(), request.getCustomerId());
+
+            // Publish OrderCreated event asynchronously
+            eventPublisher.publishOrderCreated(savedOrder);
+
+            created = true;
+            return toCreateOrderResponse(savedOrder);
+        } finally {
+            orderMetrics.recordCreate(start, created);
+        }
+    }
+
+    @Override
+    @Transactional
+    public List<CreateOrderResponse> createOrders(List<CreateOrderRequest> requests) {
+        log.info("Creating batch of {} orders", requests.size());
+        long start = System.nanoTime();
+        boolean created = false;
+        try {
+            List<Order> orders = requests.stream()
+                    .map(this::buildOrder)
+                    .collect(Collectors.toList());
+
+            // Flush before publishing so constraint violations surface before any event leaves
+            List<Order> savedOrders = orderRepository.saveAllAndFlush(orders);
+            log.info("Batch of {} orders persisted", savedOrders.size());
+
+            // Publish all OrderCreated events in a single confirm window
+            eventPublisher.publishOrdersCreated(savedOrders);
+
+            created = true;
+            return savedOrders.stream()
+                    .map(this::toCreateOrderResponse)
+                    .collect(Collectors.toList());
+        } finally {
+            orderMetrics.recordCreateBatch(start, requests.size(), created);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public OrderResponse getOrderById(UUID orderId) {
+        log.debug(LogMarkers.PER_MESSAGE, "Retrieving order: {}", orderId);
+
+        // Orders of retired months are only in the archive
+        return orderResponseCache.get(orderId, id -> orderMapper.toOrderResponse(
+                orderRepository.findOrder(id)
+                        .or(() -> orderArchive.find(id))
+                        .orElseThrow(() -> new OrderNotFoundException(id))));
+    }
 
+    @Override
+    @Transactional(readOnly = true)
+    public OrderPageResponse listOrders(UUID customerId, OrderStatus status, Instant createdAfter,
+                                        String cursor, int limit) {
+        OrderCursor after = cursor != null ? OrderCursor.decode(cursor) : null;
+
+        // Fetch one extra row to know whether another page exists
+        List<Order> orders = orderRepository.search(OrderSearchCriteria.builder()
+                .customerId(customerId)
+                .status(status)
+                .createdAfter(createdAfter)
+                .afterCreatedAt(after != null ? after.createdAt() : null)
+                .afterOrderId(after != null ? after.orderId() : null)
+                .limit(limit + 1)
+                .build());
+
+        boolean hasMore = orders.size() > limit;
+        List<Order> page = hasMore ? orders.subList(0, limit) : orders;
+
+        return OrderPageResponse.builder()
+                .orders(page.stream()
+                        .map(orderMapper::toOrderResponse)
+                        .collect(Collectors.toList()))
+                .nextCursor(hasMore ? OrderCursor.of(page.get(page.size() - 1)).encode() : null)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportOrders(Instant from, Instant to, OrderStatus status, OrderExportFormat format,
+                             OutputStream out) throws IOException {
+        long start = System.nanoTime();
+        List<OrderStatus> statuses = status != null ? List.of(status) : List.of(OrderStatus.values());
+        long rows = 0;
+        try (OrderExportWriter writer = OrderExportWriter.create(format, out, objectMapper);
+             Stream<Order> orders = orderRepository.streamByCreatedAt(from, to, statuses, exportFetchSize)) {
+            Iterator<Order> iterator = orders.iterator();
+            while (iterator.hasNext()) {
+                Order order = iterator.next();
+                writer.write(order);
+                // Keep the persistence context empty: memory stays flat however many orders are exported
+                entityManager.detach(order);
+                rows++;
+            }
+        }
+        log.info("Exported {} orders created in [{}, {}) as {} in {} ms", rows, from, to, format,
+                (System.nanoTime() - start) / 1_000_000);
+        return rows;
+    }
+
+    @Override
+    @Transactional
+    public List<StockResponse> applyStockResponses(List<StockResponse> responses) {
+        // Terminal states are absorbing, so keeping the first response per order preserves delivery order
+        Map<UUID, StockResponse> firstByOrder = new LinkedHashMap<>();
+        responses.forEach(response -> firstByOrder.putIfAbsent(response.getOrderId(), response));
+
+        List<UUID> toConfirm = new ArrayList<>();
+        Map<String, List<UUID>> toCancelByReason = new HashMap<>();
+        firstByOrder.values().forEach(response -> {
+            if (response.isReserved()) {
+                toConfirm.add(response.getOrderId());
+            } else {
+                toCancelByReason.computeIfAbsent(response.getReason(), reason -> new ArrayList<>())
+                        .add(response.getOrderId());
+            }
+        });
+
+        // One UPDATE per target status (and cancellation reason), each reporting the rows it changed
+        Instant now = Instant.now();
+        List<TransitionedOrder> changed = new ArrayList<>(firstByOrder.size());
+        if (!toConfirm.isEmpty()) {
+            long start = System.nanoTime();
+            changed.addAll(orderRepository.confirmAllIn(toConfirm, OrderStatus.CONFIRMED.sources(), now));
+            orderMetrics.recordTransition(OrderStatus.CONFIRMED, start);
+        }
+        toCancelByReason.forEach((reason, orderIds) -> {
+            long start = System.nanoTime();
+            changed.addAll(orderRepository.cancelAllIn(orderIds, OrderStatus.CANCELLED.sources(), reason, now));
+            orderMetrics.recordTransition(OrderStatus.CANCELLED, start);
+        });
+        Map<UUID, Instant> transitioned = changed.stream()
+                .collect(Collectors.toMap(TransitionedOrder::orderId, TransitionedOrder::createdAt));
+
+        firstByOrder.values().stream()
+                .filter(response -> transitioned.containsKey(response.getOrderId()))
+                .forEach(response -> applicationEventPublisher.publishEvent(new OrderStatusChangedEvent(
+                        response.getOrderId(),
+                        response.isReserved() ? OrderStatus.CONFIRMED : OrderStatus.CANCELLED,
+                        transitioned.get(response.getOrderId()))));
+        orderMetrics.stockResponsesApplied(transitioned.size());
+        orderMetrics.stockResponsesDuplicate(responses.size() - firstByOrder.size());
+
+        // Untouched orders are either already terminal (duplicates) or not committed yet
+        Set<UUID> untouched = new HashSet<>(firstByOrder.keySet());
+        untouched.removeAll(transitioned.keySet());
+        Set<UUID> existing = untouched.isEmpty()
+                ? Set.of()
+                : new HashSet<>(orderRepository.findExistingOrderIds(untouched));
+        if (!toConfirm.isEmpty()) {
+            recordTransitionBatch(OrderStatus.CONFIRMED, toConfirm, transitioned.keySet(), existing);
+        }
+        if (!toCancelByReason.isEmpty()) {
+            recordTransitionBatch(OrderStatus.CANCELLED,
+                    toCancelByReason.values().stream().flatMap(List::stream).collect(Collectors.toList()),
+                    transitioned.keySet(), existing);
+        }
+
+        if (untouched.isEmpty()) {
+            log.info(LogMarkers.PER_MESSAGE, "Applied {} stock responses", transitioned.size());
+            return List.of();
+        }
+
+        List<StockResponse> unresolved = firstByOrder.values().stream()
+                .filter(response -> untouched.contains(response.getOrderId()))
+                .filter(response -> !existing.contains(response.getOrderId()))
+                .collect(Collectors.toList());
+        orderMetrics.stockResponsesDuplicate(existing.size());
+
+        log.info(LogMarkers.PER_MESSAGE, "Applied {} stock responses, {} duplicates ignored, {} orders not found yet",
+                transitioned.size(), existing.size(), unresolved.size());
+        return unresolved;
+    }
+
+    /**
+     * Orders not committed yet are neither applied nor ignored: they are deferred and counted when retried
+     */
+    private void recordTransitionBatch(OrderStatus target, Collection<UUID> orderIds, Set<UUID> transitioned,
+                                       Set<UUID> existing) {
+        int applied = 0;
+        int ignored = 0;
+        for (UUID orderId : orderIds) {
+            if (transitioned.contains(orderId)) {
+                applied++;
+            } else if (existing.contains(orderId)) {
+                ignored++;
+            }
+        }
+        orderMetrics.recordTransitionBatch(target, applied, ignored);
+    }
+
+    private Order buildOrder(CreateOrderRequest request) {
         // Create order entity
         Order order = Order.builder()
                 .customerId(request.getCustomerId())
@@ -49,7 +286,13 @@ public class OrderServiceImpl implements OrderService {
                 .paymentReference(request.getPaymentReference())
                 .build();
 
-        // Add order items
+        // Add order items, inline or as order_items rows depending on orders.persistence.item-storage
+        if (itemStorage == ItemStorage.JSON) {
+            order.setLineItems(request.getItems().stream()
+                    .map(itemRequest -> new LineItem(itemRequest.getProductId(), itemRequest.getQuantity()))
+                    .collect(Collectors.toList()));
+            return order;
+        }
         request.getItems().forEach(itemRequest -> {
             OrderItem item = OrderItem.builder()
                     .productId(itemRequest.getProductId())
@@ -58,73 +301,14 @@ public class OrderServiceImpl implements OrderService {
             order.addItem(item);
         });
 
-        // Save order
-        Order savedOrder = orderRepository.save(order);
-        log.info("Order created with ID: {}", savedOrder.getOrderId());
-
-        // Publish OrderCreated event asynchronously
-        eventPublisher.publishOrderCreated(savedOrder);
+        return order;
+    }
 
+    private CreateOrderResponse toCreateOrderResponse(Order order) {
         return CreateOrderResponse.builder()
-                .orderId(savedOrder.getOrderId())
-                .status(savedOrder.getStatus().name())
+                .orderId(order.getOrderId())
+                .status(order.getStatus().name())
                 .message("Order received. Inventory check in progress.")
                 .build();
     }
-
-    @Override
-    @Transactional(readOnly = true)
-    public OrderResponse getOrderById(UUID orderId) {
-        log.info("Retrieving order: {}", orderId);
-
-        Order order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new RuntimeException("Order not found: " + orderId));
-
-        return orderMapper.toOrderResponse(order);
-    }
-
-    @Override
-    @Transactional
-    public void confirmOrder(UUID orderId) {
-        log.info("Confirming order: {}", orderId);
-
-        Order order = findOrderWithRetry(orderId, 3);
-        order.confirm();
-        orderRepository.save(order);
-
-        log.info("Order confirmed: {}", orderId);
-    }
-
-    @Override
-    @Transactional
-    public void cancelOrder(UUID orderId, String reason) {
-        log.info("Cancelling order: {} with reason: {}", orderId, reason);
-
-        Order order = findOrderWithRetry(orderId, 3);
-        order.cancel(reason);
-        orderRepository.save(order);
-
-        log.info("Order cancelled: {}", orderId);
-    }
-    
-    private Order findOrderWithRetry(UUID orderId, int maxAttempts) {
-        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
-            Optional<Order> orderOpt = orderRepository.findById(orderId);
-            if (orderOpt.isPresent()) {
-                return orderOpt.get();
-            }
-            
-            if (attempt < maxAttempts) {
-                log.warn("Order {} not found, attempt {}/{}. Retrying...", orderId, attempt, maxAttempts);
-                try {
-                    Thread.sleep(100 * attempt); // Exponential backoff: 100ms, 200ms, 300ms
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    throw new RuntimeException("Interrupted while waiting for order: " + orderId, e);
-                }
-            }
-        }
-        
-        throw new RuntimeException("Order not found after " + maxAttempts + " attempts: " + orderId);
-    }
 }
@@ -0,0 +1,14 @@
+package ec.edu.espe.orderservice.domain.model;
+
+/**
+ * Where new orders keep their items (orders.persistence.item-storage)
+ * Reads handle both layouts, so the setting can be changed without migrating existing orders first.
+ */
+public enum ItemStorage {
+
+    /** One order_items row per item, loaded through Order.items */
+    TABLE,
+
+    /** A JSONB array in orders.line_items: one INSERT per order and no second query on read */
+    JSON
+}
@@ -0,0 +1,9 @@
+package ec.edu.espe.orderservice.domain.model;
+
+import java.util.UUID;
+
+/**
+ * Line Item Value Object - An order item stored inline in the orders.line_items JSONB column
+ */
+public record LineItem(UUID productId, int quantity) {
+}
@@ -4,25 +4,45 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.ParamDef;
+import org.hibernate.type.SqlTypes;
 
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Order Entity - Represents an order in the system
  * Follows Single Responsibility Principle: Only manages order data
+ * Schema (partitioned by created_at): db/migration
  */
 @Entity
 @Table(name = "orders")
+@FilterDef(name = Order.ITEMS_CREATED_BETWEEN, parameters = {
+        @ParamDef(name = "createdFrom", type = Instant.class),
+        @ParamDef(name = "createdTo", type = Instant.class)
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Order {
 
+    /**
+     * Session filter adding a created_at range to the items join, so fetch joins over many orders prune
+     * order_items partitions (a fetch join cannot carry its own ON condition)
+     */
+    public static final String ITEMS_CREATED_BETWEEN = "itemsCreatedBetween";
+
     @Id
     @Column(name = "order_id", updatable = false, nullable = false)
     private UUID orderId;
@@ -35,9 +55,19 @@ public class Order {
     private OrderStatus status;
 
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Filter(name = ITEMS_CREATED_BETWEEN, condition = "created_at >= :createdFrom and created_at < :createdTo")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @Builder.Default
     private List<OrderItem> items = new ArrayList<>();
 
+    /**
+     * Items stored inline (ItemStorage.JSON); null for orders whose items are in order_items
+     */
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "line_items", columnDefinition = "jsonb")
+    private List<LineItem> lineItems;
+
     @Embedded
     private ShippingAddress shippingAddress;
 
@@ -47,16 +77,22 @@ public class Order {
     @Column(name = "cancellation_reason")
     private String cancellationReason;
 
-    @Column(name = "created_at", nullable = false)
+    /** Partition key: never changes after insert */
+    @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
 
     @Column(name = "updated_at")
     private Instant updatedAt;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         if (orderId == null) {
-            orderId = UUID.randomUUID();
+            orderId = UuidV7.next();
         }
         createdAt = Instant.now();
         updatedAt = Instant.now();
@@ -80,19 +116,15 @@ public class Order {
     }
 
     /**
-     * Business logic: Confirm the order
-     */
-    public void confirm() {
-        this.status = OrderStatus.CONFIRMED;
-        this.updatedAt = Instant.now();
-    }
-
-    /**
-     * Business logic: Cancel the order with a reason
+     * The order's items in either storage layout; only touches the lazy items collection for orders
+     * stored in order_items
      */
-    public void cancel(String reason) {
-        this.status = OrderStatus.CANCELLED;
-        this.cancellationReason = reason;
-        this.updatedAt = Instant.now();
+    public List<LineItem> orderLines() {
+        if (lineItems != null) {
+            return lineItems;
+        }
+        return items.stream()
+                .map(item -> new LineItem(item.getProductId(), item.getQuantity()))
+                .collect(Collectors.toList());
     }
 }
@@ -4,8 +4,11 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
+import java.time.Instant;
 import java.util.UUID;
 
 /**
@@ -21,12 +24,17 @@ import java.util.UUID;
 public class OrderItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
-    @Column(name = "item_id")
+    @Column(name = "item_id", updatable = false, nullable = false)
     private UUID itemId;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "order_id", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    // Joined on the partition key too, so loading an order's items only reads that month's partition
+    @JoinColumns({
+            @JoinColumn(name = "order_id", referencedColumnName = "order_id", nullable = false),
+            @JoinColumn(name = "created_at", referencedColumnName = "created_at", nullable = false)
+    })
     private Order order;
 
     @Column(name = "product_id", nullable = false)
@@ -34,4 +42,18 @@ public class OrderItem {
 
     @Column(nullable = false)
     private Integer quantity;
+
+    /** Copy of the order's created_at, so items are partitioned alongside their order; written through order */
+    @Column(name = "created_at", nullable = false, insertable = false, updatable = false)
+    private Instant createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (itemId == null) {
+            itemId = UuidV7.next();
+        }
+        if (createdAt == null) {
+            createdAt = order != null && order.getCreatedAt() != null ? order.getCreatedAt() : Instant.now();
+        }
+    }
 }
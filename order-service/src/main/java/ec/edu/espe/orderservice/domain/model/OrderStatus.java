@@ -1,10 +1,48 @@
 package ec.edu.espe.orderservice.domain.model;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * Order Status Enum - Represents possible states of an order
+ * The transition table is the single source of truth for which status changes are legal: status updates
+ * only match rows whose current status is one of target.sources() (OrderRepositoryCustom)
  */
 public enum OrderStatus {
     PENDING,
     CONFIRMED,
-    CANCELLED
+    CANCELLED;
+
+    private static final Map<OrderStatus, Set<OrderStatus>> TRANSITIONS = new EnumMap<>(OrderStatus.class);
+    private static final Map<OrderStatus, Set<OrderStatus>> SOURCES = new EnumMap<>(OrderStatus.class);
+
+    static {
+        TRANSITIONS.put(PENDING, EnumSet.of(CONFIRMED, CANCELLED));
+        TRANSITIONS.put(CONFIRMED, EnumSet.noneOf(OrderStatus.class));
+        TRANSITIONS.put(CANCELLED, EnumSet.noneOf(OrderStatus.class));
+
+        for (OrderStatus target : values()) {
+            Set<OrderStatus> sources = EnumSet.noneOf(OrderStatus.class);
+            TRANSITIONS.forEach((source, targets) -> {
+                if (targets.contains(target)) {
+                    sources.add(source);
+                }
+            });
+            SOURCES.put(target, Collections.unmodifiableSet(sources));
+        }
+    }
+
+    /**
+     * Statuses from which this status can be reached
+     */
+    public Set<OrderStatus> sources() {
+        return SOURCES.get(this);
+    }
+
+    public boolean isTerminal() {
+        return TRANSITIONS.get(this).isEmpty();
+    }
 }
@@ -11,5 +11,5 @@ import java.util.UUID;
  * Follows Dependency Inversion Principle: High-level modules depend on abstraction
  */
 @Repository
-public interface OrderRepository extends JpaRepository<Order, UUID> {
+public interface OrderRepository extends JpaRepository<Order, UUID>, OrderRepositoryCustom {
 }
@@ -0,0 +1,60 @@
+package ec.edu.espe.orderservice.domain.repository;
+
+import ec.edu.espe.orderservice.domain.model.Order;
+import ec.edu.espe.orderservice.domain.model.OrderStatus;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Order Repository custom operations that need hand-written SQL
+ */
+public interface OrderRepositoryCustom {
+
+    /**
+     * Move every order in orderIds whose status is one of sources to CONFIRMED with a single UPDATE
+     * @return the orders that were actually transitioned
+     */
+    List<TransitionedOrder> confirmAllIn(Collection<UUID> orderIds, Collection<OrderStatus> sources, Instant updatedAt);
+
+    /**
+     * Move every order in orderIds whose status is one of sources to CANCELLED with the given reason
+     * using a single UPDATE
+     * @return the orders that were actually transitioned
+     */
+    List<TransitionedOrder> cancelAllIn(Collection<UUID> orderIds, Collection<OrderStatus> sources, String reason,
+                                        Instant updatedAt);
+
+    /**
+     * Which of the given ids exist, without loading the aggregates, scanning only the partitions their
+     * timestamps allow
+     */
+    List<UUID> findExistingOrderIds(Collection<UUID> orderIds);
+
+    /**
+     * Load one order, scanning only the partitions its id's timestamp allows
+     */
+    Optional<Order> findOrder(UUID orderId);
+
+    /**
+     * Keyset-paginated search ordered by (created_at, order_id); items kept in order_items are loaded in one
+     * extra query, inline line_items come with the page
+     */
+    List<Order> search(OrderSearchCriteria criteria);
+
+    /**
+     * Orders created in [from, to) with one of the given statuses, ordered by order_id, items fetched in the
+     * same query. Rows are pulled from a server-side cursor fetchSize at a time; must be consumed and closed
+     * inside a transaction, detaching each order once it has been handled.
+     */
+    Stream<Order> streamByOrderId(Instant from, Instant to, Collection<OrderStatus> statuses, int fetchSize);
+
+    /**
+     * Same as streamByOrderId, ordered by (created_at, order_id)
+     */
+    Stream<Order> streamByCreatedAt(Instant from, Instant to, Collection<OrderStatus> statuses, int fetchSize);
+}
@@ -0,0 +1,231 @@
+package ec.edu.espe.orderservice.domain.repository;
+
+import ec.edu.espe.orderservice.domain.model.Order;
+import ec.edu.espe.orderservice.domain.model.OrderStatus;
+import ec.edu.espe.orderservice.domain.model.UuidV7;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Order Repository custom operations
+ * Bulk transitions use PostgreSQL UPDATE ... RETURNING so they report exactly which rows changed in the same
+ * round trip; searches use keyset pagination so every page costs the same regardless of depth.
+ * Lookups by id add a created_at bound derived from the UUIDv7 id, which prunes the older monthly partitions.
+ * Item fetches over many orders repeat the orders' created_at range on order_items (Order.ITEMS_CREATED_BETWEEN).
+ *
+ * Status transitions are enforced here, not on the entity: the UPDATE only matches orders whose status is one of
+ * the allowed sources (OrderStatus transition table) and bumps version, so a JPA write holding the previous
+ * version fails its optimistic lock check instead of overwriting the transition.
+ */
+public class OrderRepositoryCustomImpl implements OrderRepositoryCustom {
+
+    private static final String CONFIRM_SQL =
+            "UPDATE orders SET status = 'CONFIRMED', updated_at = :updatedAt, version = version + 1 "
+                    + "WHERE order_id IN (:orderIds) AND status IN (:sources) AND created_at >= :createdFrom "
+                    + "RETURNING order_id, created_at";
+
+    private static final String CANCEL_SQL =
+            "UPDATE orders SET status = 'CANCELLED', cancellation_reason = :reason, updated_at = :updatedAt, "
+                    + "version = version + 1 "
+                    + "WHERE order_id IN (:orderIds) AND status IN (:sources) AND created_at >= :createdFrom "
+                    + "RETURNING order_id, created_at";
+
+    /**
+     * A UUIDv7 order id carries its creation time; created_at is set right after the id is generated, so it is
+     * never earlier than the id's timestamp by more than clock adjustments. The margin keeps the bound safe.
+     */
+    private static final Duration CREATED_AT_MARGIN = Duration.ofHours(1);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TransitionedOrder> confirmAllIn(Collection<UUID> orderIds, Collection<OrderStatus> sources, Instant updatedAt) {
+        return transition(entityManager.createNativeQuery(CONFIRM_SQL)
+                .setParameter("orderIds", orderIds)
+                .setParameter("sources", names(sources))
+                .setParameter("createdFrom", createdFrom(orderIds))
+                .setParameter("updatedAt", updatedAt));
+    }
+
+    @Override
+    public List<TransitionedOrder> cancelAllIn(Collection<UUID> orderIds, Collection<OrderStatus> sources,
+                                               String reason, Instant updatedAt) {
+        return transition(entityManager.createNativeQuery(CANCEL_SQL)
+                .setParameter("orderIds", orderIds)
+                .setParameter("sources", names(sources))
+                .setParameter("createdFrom", createdFrom(orderIds))
+                .setParameter("reason", reason)
+                .setParameter("updatedAt", updatedAt));
+    }
+
+    @Override
+    public List<UUID> findExistingOrderIds(Collection<UUID> orderIds) {
+        return entityManager.createQuery(
+                        "SELECT o.orderId FROM Order o WHERE o.orderId IN :orderIds AND o.createdAt >= :createdFrom",
+                        UUID.class)
+                .setParameter("orderIds", orderIds)
+                .setParameter("createdFrom", createdFrom(orderIds))
+                .getResultList();
+    }
+
+    @Override
+    public Optional<Order> findOrder(UUID orderId) {
+        return entityManager.createQuery(
+                        "SELECT o FROM Order o WHERE o.orderId = :orderId AND o.createdAt >= :createdFrom", Order.class)
+                .setParameter("orderId", orderId)
+                .setParameter("createdFrom", createdFrom(List.of(orderId)))
+                .getResultStream()
+                .findFirst();
+    }
+
+    @Override
+    public List<Order> search(OrderSearchCriteria criteria) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Order> query = cb.createQuery(Order.class);
+        Root<Order> order = query.from(Order.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (criteria.getCustomerId() != null) {
+            predicates.add(cb.equal(order.get("customerId"), criteria.getCustomerId()));
+        }
+        if (criteria.getStatus() != null) {
+            predicates.add(cb.equal(order.get("status"), criteria.getStatus()));
+        }
+        if (criteria.getCreatedAfter() != null) {
+            predicates.add(cb.greaterThan(order.<Instant>get("createdAt"), criteria.getCreatedAfter()));
+        }
+        if (criteria.getAfterCreatedAt() != null && criteria.getAfterOrderId() != null) {
+            // (created_at, order_id) > (cursor.created_at, cursor.order_id)
+            predicates.add(cb.or(
+                    cb.greaterThan(order.<Instant>get("createdAt"), criteria.getAfterCreatedAt()),
+                    cb.and(
+                            cb.equal(order.get("createdAt"), criteria.getAfterCreatedAt()),
+                            cb.greaterThan(order.<UUID>get("orderId"), criteria.getAfterOrderId()))));
+        }
+
+        query.select(order)
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.asc(order.get("createdAt")), cb.asc(order.get("orderId")));
+
+        List<Order> page = entityManager.createQuery(query)
+                .setMaxResults(criteria.getLimit())
+                .getResultList();
+
+        // Orders with inline line_items are complete already; initialize the items of the rest with one query
+        // instead of N lazy loads
+        List<Order> withItemRows = page.stream()
+                .filter(o -> o.getLineItems() == null)
+                .collect(Collectors.toList());
+        if (!withItemRows.isEmpty()) {
+            // The page is in created_at order, so its first and last orders bound the partitions to read
+            Instant from = withItemRows.get(0).getCreatedAt();
+            Instant to = withItemRows.get(withItemRows.size() - 1).getCreatedAt().plusNanos(1);
+            withItemsCreatedBetween(from, to, () -> entityManager.createQuery(
+                            "SELECT o FROM Order o LEFT JOIN FETCH o.items "
+                                    + "WHERE o IN :orders AND o.createdAt >= :from AND o.createdAt < :to", Order.class)
+                    .setParameter("orders", withItemRows)
+                    .setParameter("from", from)
+                    .setParameter("to", to)
+                    .getResultList());
+        }
+        return page;
+    }
+
+    @Override
+    public Stream<Order> streamByOrderId(Instant from, Instant to, Collection<OrderStatus> statuses, int fetchSize) {
+        return stream("o.orderId", from, to, statuses, fetchSize);
+    }
+
+    @Override
+    public Stream<Order> streamByCreatedAt(Instant from, Instant to, Collection<OrderStatus> statuses, int fetchSize) {
+        return stream("o.createdAt, o.orderId", from, to, statuses, fetchSize);
+    }
+
+    private Stream<Order> stream(String orderBy, Instant from, Instant to, Collection<OrderStatus> statuses,
+                                 int fetchSize) {
+        // The sort ends on order_id, so the joined item rows of one order are adjacent and can be streamed.
+        // The statement runs when the stream is opened, so the filter only has to be on until then.
+        return withItemsCreatedBetween(from, to, () -> entityManager.createQuery("SELECT o FROM Order o "
+                        + "LEFT JOIN FETCH o.items "
+                        + "WHERE o.createdAt >= :from AND o.createdAt < :to AND o.status IN :statuses "
+                        + "ORDER BY " + orderBy, Order.class)
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .setParameter("statuses", statuses)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream());
+    }
+
+    /**
+     * Runs a fetch of o.items with the order's created_at range repeated on the item rows. The join also matches
+     * on created_at, but PostgreSQL only carries equalities across a join, so without the range every
+     * order_items partition is planned. Items always share their order's created_at, so no row is filtered out
+     * that the join would have matched; the filter is switched off again so later lazy loads are unaffected.
+     */
+    private <T> T withItemsCreatedBetween(Instant from, Instant to, Supplier<T> query) {
+        Session session = entityManager.unwrap(Session.class);
+        session.enableFilter(Order.ITEMS_CREATED_BETWEEN)
+                .setParameter("createdFrom", from)
+                .setParameter("createdTo", to);
+        try {
+            return query.get();
+        } finally {
+            session.disableFilter(Order.ITEMS_CREATED_BETWEEN);
+        }
+    }
+
+    /**
+     * Lower bound on created_at for the given ids, so PostgreSQL only scans the partitions that can hold them
+     * (every partition when any id is not time-ordered)
+     */
+    private static Instant createdFrom(Collection<UUID> orderIds) {
+        Instant earliest = null;
+        for (UUID orderId : orderIds) {
+            Instant timestamp = UuidV7.timestampOf(orderId);
+            if (timestamp == null) {
+                return Instant.EPOCH;
+            }
+            if (earliest == null || timestamp.isBefore(earliest)) {
+                earliest = timestamp;
+            }
+        }
+        return earliest != null ? earliest.minus(CREATED_AT_MARGIN) : Instant.EPOCH;
+    }
+
+    private static List<String> names(Collection<OrderStatus> statuses) {
+        return statuses.stream().map(Enum::name).collect(Collectors.toList());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<TransitionedOrder> transition(Query query) {
+        List<Object[]> rows = query.unwrap(NativeQuery.class)
+                .addScalar("order_id", StandardBasicTypes.UUID)
+                .addScalar("created_at", StandardBasicTypes.INSTANT)
+                .getResultList();
+        return rows.stream()
+                .map(row -> new TransitionedOrder((UUID) row[0], (Instant) row[1]))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,24 @@
+package ec.edu.espe.orderservice.domain.repository;
+
+import ec.edu.espe.orderservice.domain.model.OrderStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Order Search Criteria - Filters and keyset position for paginated order queries
+ * Results are ordered by (created_at, order_id); the page starts strictly after (afterCreatedAt, afterOrderId)
+ */
+@Getter
+@Builder
+public class OrderSearchCriteria {
+
+    private final UUID customerId;
+    private final OrderStatus status;
+    private final Instant createdAfter;
+    private final Instant afterCreatedAt;
+    private final UUID afterOrderId;
+    private final int limit;
+}
@@ -0,0 +1,10 @@
+package ec.edu.espe.orderservice.domain.repository;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * An order changed by a conditional status UPDATE, with its creation time for lifecycle metrics
+ */
+public record TransitionedOrder(UUID orderId, Instant createdAt) {
+}
@@ -0,0 +1,165 @@
+package ec.edu.espe.orderservice.infrastructure.archive;
+
+import ec.edu.espe.orderservice.domain.model.Order;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Order Archive - Read side of the archived order segments in orders.archive.directory
+ * Every segment's sparse index is loaded when the segment is opened (a few dozen bytes per block); looking up
+ * an order inflates at most one block per segment whose id range covers it, newest segment first.
+ *
+ * Segments are written by whichever replica retires a month, so with more than one instance the directory must
+ * be shared storage (a shared volume or NFS mount). Every instance rescans it every
+ * orders.archive.rescan-interval-ms and opens new or replaced segments and forgets deleted ones.
+ */
+@Component
+@Slf4j
+public class OrderArchive {
+
+    /** Keyed by file name (orders-YYYYMM.oseg), so iterating in descending order visits newer months first */
+    private final ConcurrentSkipListMap<String, OpenSegment> segments = new ConcurrentSkipListMap<>();
+    private final Path directory;
+
+    public OrderArchive(@Value("${orders.archive.directory:./archive}") Path directory) {
+        this.directory = directory;
+    }
+
+    @PostConstruct
+    void open() throws IOException {
+        scan();
+        if (!segments.isEmpty()) {
+            log.info("Opened {} archived order segments in {}", segments.size(), directory);
+        }
+    }
+
+    /**
+     * Pick up segments written by other instances
+     */
+    @Scheduled(fixedDelayString = "${orders.archive.rescan-interval-ms:60000}",
+            initialDelayString = "${orders.archive.rescan-interval-ms:60000}")
+    public void rescan() {
+        try {
+            scan();
+        } catch (IOException e) {
+            log.warn("Failed to rescan archive directory {}", directory, e);
+        }
+    }
+
+    Path directory() {
+        return directory;
+    }
+
+    /**
+     * Serve lookups from a newly written segment, replacing an older file of the same name
+     */
+    synchronized void register(Path file) throws IOException {
+        open(file.getFileName().toString(), file, Files.getLastModifiedTime(file));
+    }
+
+    private synchronized void scan() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        Set<String> present = new HashSet<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + OrderSegment.SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                present.add(name);
+                FileTime modified = Files.getLastModifiedTime(file);
+                OpenSegment current = segments.get(name);
+                if (current == null || !current.modified().equals(modified)) {
+                    try {
+                        open(name, file, modified);
+                    } catch (IOException e) {
+                        // Keep serving the previous version; the next scan retries
+                        log.warn("Failed to open archive segment {}", file, e);
+                    }
+                }
+            }
+        }
+        for (String name : segments.keySet()) {
+            if (!present.contains(name)) {
+                close(segments.remove(name));
+                log.info("Archive segment {} was removed from {}", name, directory);
+            }
+        }
+    }
+
+    private void open(String name, Path file, FileTime modified) throws IOException {
+        OpenSegment previous = segments.put(name, new OpenSegment(new OrderSegmentReader(file), modified));
+        if (previous != null) {
+            close(previous);
+        } else {
+            log.debug("Opened archive segment {}", file);
+        }
+    }
+
+    /**
+     * Find an order that is no longer in the database
+     */
+    public Optional<Order> find(UUID orderId) {
+        for (String name : segments.descendingKeySet()) {
+            Optional<Order> order = find(name, orderId);
+            if (order.isPresent()) {
+                return order;
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Optional<Order> find(String name, UUID orderId) {
+        OpenSegment segment = segments.get(name);
+        while (segment != null && segment.reader().mayContain(orderId)) {
+            try {
+                return segment.reader().find(orderId);
+            } catch (ClosedChannelException e) {
+                // Replaced by a rescan while reading: retry on the new version (or give up if it was removed)
+                OpenSegment replacement = segments.get(name);
+                if (replacement == segment) {
+                    throw new UncheckedIOException("Archive segment " + segment.reader().path() + " is closed", e);
+                }
+                segment = replacement;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read archived order " + orderId + " from "
+                        + segment.reader().path(), e);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @PreDestroy
+    synchronized void close() {
+        segments.values().forEach(this::close);
+        segments.clear();
+    }
+
+    private void close(OpenSegment segment) {
+        try {
+            segment.reader().close();
+        } catch (IOException e) {
+            log.warn("Failed to close archive segment {}", segment.reader().path(), e);
+        }
+    }
+
+    /** An open segment and the modification time of the file it was opened from */
+    private record OpenSegment(OrderSegmentReader reader, FileTime modified) {
+    }
+}
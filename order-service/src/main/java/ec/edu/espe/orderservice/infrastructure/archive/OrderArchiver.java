@@ -0,0 +1,96 @@
+package ec.edu.espe.orderservice.infrastructure.archive;
+
+import ec.edu.espe.orderservice.domain.model.Order;
+import ec.edu.espe.orderservice.domain.model.OrderStatus;
+import ec.edu.espe.orderservice.domain.repository.OrderRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Order Archiver - Writes one month of CONFIRMED/CANCELLED orders to an archive segment (orders-YYYYMM.oseg)
+ * Orders are streamed from a server-side cursor and detached as soon as they are written, so memory use is
+ * bounded by one segment block whatever the size of the month. The segment is written to a temporary file
+ * and moved into place, then registered with OrderArchive for lookups.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderArchiver {
+
+    private static final DateTimeFormatter MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final List<OrderStatus> TERMINAL = Arrays.stream(OrderStatus.values())
+            .filter(OrderStatus::isTerminal)
+            .collect(Collectors.toList());
+
+    private final OrderRepository orderRepository;
+    private final OrderArchive orderArchive;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${orders.archive.block-size:4096}")
+    private int blockSize;
+
+    @Value("${orders.archive.compression-level:6}")
+    private int compressionLevel;
+
+    @Value("${orders.archive.fetch-size:1000}")
+    private int fetchSize;
+
+    /**
+     * Archive the terminal orders created in the given month (UTC), replacing an earlier segment for it
+     * @return the number of orders written
+     */
+    @Transactional(readOnly = true)
+    public long archiveMonth(YearMonth month) throws IOException {
+        long start = System.nanoTime();
+        Instant from = month.atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+        Instant to = month.plusMonths(1).atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+
+        Files.createDirectories(orderArchive.directory());
+        Path target = orderArchive.directory().resolve("orders-" + month.format(MONTH) + OrderSegment.SUFFIX);
+        Path temporary = Files.createTempFile(orderArchive.directory(), "orders-" + month.format(MONTH), ".tmp");
+        long rows;
+        try {
+            try (OutputStream file = Files.newOutputStream(temporary);
+                 OrderSegmentWriter writer = new OrderSegmentWriter(file, blockSize, compressionLevel);
+                 Stream<Order> orders = orderRepository.streamByOrderId(from, to, TERMINAL, fetchSize)) {
+                Iterator<Order> iterator = orders.iterator();
+                while (iterator.hasNext()) {
+                    Order order = iterator.next();
+                    writer.write(order);
+                    entityManager.detach(order);
+                }
+                rows = writer.rows();
+            }
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+
+        orderArchive.register(target);
+        log.info("Archived {} orders of {} to {} in {} ms", rows, month, target,
+                (System.nanoTime() - start) / 1_000_000);
+        return rows;
+    }
+}
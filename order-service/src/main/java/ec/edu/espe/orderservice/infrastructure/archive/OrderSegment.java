@@ -0,0 +1,41 @@
+package ec.edu.espe.orderservice.infrastructure.archive;
+
+import java.util.UUID;
+
+/**
+ * Order Segment - On-disk layout of an archived month of orders (orders-YYYYMM.oseg)
+ *
+ *   header   MAGIC, VERSION
+ *   blocks   rowCount, rawLength, compressedLength, deflate(columns)
+ *   footer   per block: firstOrderId, lastOrderId, offset, rowCount
+ *   trailer  footerOffset, blockCount, MAGIC
+ *
+ * Rows are sorted by order_id (unsigned, as PostgreSQL orders uuid) and grouped in blocks of at most
+ * orders.archive.block-size orders. Inside a block every column is stored contiguously (all order ids, then
+ * all customer ids, ...), which compresses far better than row by row. The footer is the sparse index:
+ * one entry per block, so a lookup reads the footer once and then inflates a single block.
+ */
+final class OrderSegment {
+
+    static final int MAGIC = 0x4f534547; // "OSEG"
+    static final int VERSION = 1;
+    static final String SUFFIX = ".oseg";
+
+    static final int BLOCK_HEADER_BYTES = 3 * Integer.BYTES;
+    static final int FOOTER_ENTRY_BYTES = 4 * Long.BYTES + Long.BYTES + Integer.BYTES;
+    static final int TRAILER_BYTES = Long.BYTES + Integer.BYTES + Integer.BYTES;
+
+    /** Marks a null timestamp column value */
+    static final long NULL_TIMESTAMP = Long.MIN_VALUE;
+
+    private OrderSegment() {
+    }
+
+    /**
+     * Compares ids the way PostgreSQL sorts uuid values: as unsigned 128-bit numbers
+     */
+    static int compareIds(UUID a, UUID b) {
+        int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
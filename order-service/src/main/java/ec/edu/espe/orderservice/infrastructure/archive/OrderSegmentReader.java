@@ -0,0 +1,247 @@
+package ec.edu.espe.orderservice.infrastructure.archive;
+
+import ec.edu.espe.orderservice.domain.model.LineItem;
+import ec.edu.espe.orderservice.domain.model.Order;
+import ec.edu.espe.orderservice.domain.model.OrderStatus;
+import ec.edu.espe.orderservice.domain.model.ShippingAddress;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Order Segment Reader - Point lookups by order id in one segment file
+ * The sparse index (one entry per block) is read when the segment is opened; a lookup binary-searches it,
+ * then reads and inflates the one block that can contain the id. Safe for concurrent lookups.
+ */
+class OrderSegmentReader implements Closeable {
+
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    private final Path path;
+    private final FileChannel channel;
+    private final UUID[] firstIds;
+    private final UUID[] lastIds;
+    private final long[] offsets;
+
+    OrderSegmentReader(Path path) throws IOException {
+        this.path = path;
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            ByteBuffer trailer = read(size - OrderSegment.TRAILER_BYTES, OrderSegment.TRAILER_BYTES);
+            long footerOffset = trailer.getLong();
+            int blocks = trailer.getInt();
+            if (trailer.getInt() != OrderSegment.MAGIC || read(0, Integer.BYTES).getInt() != OrderSegment.MAGIC) {
+                throw new IOException("Not an order segment: " + path);
+            }
+
+            ByteBuffer footer = read(footerOffset, blocks * OrderSegment.FOOTER_ENTRY_BYTES);
+            this.firstIds = new UUID[blocks];
+            this.lastIds = new UUID[blocks];
+            this.offsets = new long[blocks];
+            for (int i = 0; i < blocks; i++) {
+                firstIds[i] = new UUID(footer.getLong(), footer.getLong());
+                lastIds[i] = new UUID(footer.getLong(), footer.getLong());
+                offsets[i] = footer.getLong();
+                footer.getInt();
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    Path path() {
+        return path;
+    }
+
+    boolean mayContain(UUID orderId) {
+        return firstIds.length > 0
+                && OrderSegment.compareIds(orderId, firstIds[0]) >= 0
+                && OrderSegment.compareIds(orderId, lastIds[lastIds.length - 1]) <= 0;
+    }
+
+    Optional<Order> find(UUID orderId) throws IOException {
+        int block = blockFor(orderId);
+        if (block < 0) {
+            return Optional.empty();
+        }
+        ByteBuffer columns = inflate(offsets[block]);
+        int rows = columns.getInt(0);
+        columns.position(Integer.BYTES);
+        int row = rowOf(columns, rows, orderId);
+        return row < 0 ? Optional.empty() : Optional.of(decodeRow(columns, rows, row));
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Last block whose first id is not greater than orderId, if orderId is within its range
+     */
+    private int blockFor(UUID orderId) {
+        int low = 0;
+        int high = firstIds.length - 1;
+        int candidate = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (OrderSegment.compareIds(firstIds[mid], orderId) <= 0) {
+                candidate = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return candidate >= 0 && OrderSegment.compareIds(orderId, lastIds[candidate]) <= 0 ? candidate : -1;
+    }
+
+    /**
+     * Reads and inflates a block; the returned buffer starts with the row count followed by the columns
+     */
+    private ByteBuffer inflate(long offset) throws IOException {
+        ByteBuffer header = read(offset, OrderSegment.BLOCK_HEADER_BYTES);
+        int rows = header.getInt();
+        int rawLength = header.getInt();
+        int compressedLength = header.getInt();
+        ByteBuffer compressed = read(offset + OrderSegment.BLOCK_HEADER_BYTES, compressedLength);
+
+        ByteBuffer columns = ByteBuffer.allocate(Integer.BYTES + rawLength);
+        columns.putInt(rows);
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            while (columns.hasRemaining() && !inflater.finished()) {
+                if (inflater.inflate(columns) == 0 && inflater.needsInput()) {
+                    throw new IOException("Truncated block at offset " + offset + " in " + path);
+                }
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt block at offset " + offset + " in " + path, e);
+        } finally {
+            inflater.end();
+        }
+        return columns.flip();
+    }
+
+    /**
+     * Binary search of the order id column, which is sorted
+     */
+    private static int rowOf(ByteBuffer columns, int rows, UUID orderId) {
+        int base = Integer.BYTES;
+        int low = 0;
+        int high = rows - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int at = base + mid * 16;
+            int cmp = OrderSegment.compareIds(new UUID(columns.getLong(at), columns.getLong(at + 8)), orderId);
+            if (cmp == 0) {
+                return mid;
+            }
+            if (cmp < 0) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return -1;
+    }
+
+    private static Order decodeRow(ByteBuffer columns, int rows, int row) {
+        int orderIds = Integer.BYTES;
+        int customerIds = orderIds + rows * 16;
+        int statuses = customerIds + rows * 16;
+        int createdAts = statuses + rows;
+        int updatedAts = createdAts + rows * Long.BYTES;
+        int versions = updatedAts + rows * Long.BYTES;
+        columns.position(versions + rows * Long.BYTES);
+
+        String[] strings = new String[6];
+        for (int column = 0; column < strings.length; column++) {
+            strings[column] = stringAt(columns, rows, row);
+        }
+
+        int itemsBefore = 0;
+        int itemCount = 0;
+        int itemsTotal = 0;
+        for (int i = 0; i < rows; i++) {
+            int count = columns.getInt();
+            if (i < row) {
+                itemsBefore += count;
+            } else if (i == row) {
+                itemCount = count;
+            }
+            itemsTotal += count;
+        }
+        int productIds = columns.position();
+        int quantities = productIds + itemsTotal * 16;
+        List<LineItem> lines = new ArrayList<>(itemCount);
+        for (int i = itemsBefore; i < itemsBefore + itemCount; i++) {
+            lines.add(new LineItem(
+                    new UUID(columns.getLong(productIds + i * 16), columns.getLong(productIds + i * 16 + 8)),
+                    columns.getInt(quantities + i * Integer.BYTES)));
+        }
+
+        ShippingAddress address = strings[0] == null && strings[1] == null && strings[2] == null && strings[3] == null
+                ? null
+                : new ShippingAddress(strings[0], strings[1], strings[2], strings[3]);
+        return Order.builder()
+                .orderId(new UUID(columns.getLong(orderIds + row * 16), columns.getLong(orderIds + row * 16 + 8)))
+                .customerId(new UUID(columns.getLong(customerIds + row * 16), columns.getLong(customerIds + row * 16 + 8)))
+                .status(STATUSES[columns.get(statuses + row)])
+                .createdAt(instant(columns.getLong(createdAts + row * Long.BYTES)))
+                .updatedAt(instant(columns.getLong(updatedAts + row * Long.BYTES)))
+                .version(columns.getLong(versions + row * Long.BYTES))
+                .shippingAddress(address)
+                .paymentReference(strings[4])
+                .cancellationReason(strings[5])
+                .lineItems(lines)
+                .build();
+    }
+
+    /**
+     * Reads a whole string column, returning the value at row and leaving the buffer after the column
+     */
+    private static String stringAt(ByteBuffer columns, int rows, int row) {
+        String value = null;
+        for (int i = 0; i < rows; i++) {
+            int length = columns.getInt();
+            if (length < 0) {
+                continue;
+            }
+            if (i == row) {
+                value = new String(columns.array(), columns.position(), length, StandardCharsets.UTF_8);
+            }
+            columns.position(columns.position() + length);
+        }
+        return value;
+    }
+
+    private static Instant instant(long micros) {
+        return micros == OrderSegment.NULL_TIMESTAMP ? null : Instant.EPOCH.plus(micros, ChronoUnit.MICROS);
+    }
+
+    private ByteBuffer read(long offset, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, offset + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of " + path);
+            }
+        }
+        return buffer.flip();
+    }
+}
@@ -0,0 +1,196 @@
+package ec.edu.espe.orderservice.infrastructure.archive;
+
+import ec.edu.espe.orderservice.domain.model.LineItem;
+import ec.edu.espe.orderservice.domain.model.Order;
+import ec.edu.espe.orderservice.domain.model.ShippingAddress;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.Deflater;
+
+/**
+ * Order Segment Writer - Appends orders, in ascending order_id order, to a segment file
+ * Holds at most one block of orders in memory; see OrderSegment for the layout.
+ */
+class OrderSegmentWriter implements Closeable {
+
+    private final DataOutputStream out;
+    private final int blockSize;
+    private final Deflater deflater;
+    private final List<Order> block;
+    private final List<long[]> footer = new ArrayList<>();
+    private final ByteArrayOutputStream raw = new ByteArrayOutputStream(64 * 1024);
+    private final byte[] compressBuffer = new byte[64 * 1024];
+    private long position;
+    private UUID lastOrderId;
+    private long rows;
+
+    OrderSegmentWriter(OutputStream out, int blockSize, int compressionLevel) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(out, 64 * 1024));
+        this.blockSize = blockSize;
+        this.deflater = new Deflater(compressionLevel);
+        this.block = new ArrayList<>(blockSize);
+        this.out.writeInt(OrderSegment.MAGIC);
+        this.out.writeInt(OrderSegment.VERSION);
+        this.position = 2L * Integer.BYTES;
+    }
+
+    void write(Order order) throws IOException {
+        if (lastOrderId != null && OrderSegment.compareIds(lastOrderId, order.getOrderId()) >= 0) {
+            throw new IllegalArgumentException("Orders must be written in ascending order_id order, got "
+                    + order.getOrderId() + " after " + lastOrderId);
+        }
+        lastOrderId = order.getOrderId();
+        block.add(order);
+        rows++;
+        if (block.size() == blockSize) {
+            flushBlock();
+        }
+    }
+
+    long rows() {
+        return rows;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flushBlock();
+            long footerOffset = position;
+            for (long[] entry : footer) {
+                for (int i = 0; i < 5; i++) {
+                    out.writeLong(entry[i]);
+                }
+                out.writeInt((int) entry[5]);
+            }
+            out.writeLong(footerOffset);
+            out.writeInt(footer.size());
+            out.writeInt(OrderSegment.MAGIC);
+            out.flush();
+        } finally {
+            deflater.end();
+            out.close();
+        }
+    }
+
+    private void flushBlock() throws IOException {
+        if (block.isEmpty()) {
+            return;
+        }
+        raw.reset();
+        encodeColumns(new DataOutputStream(raw));
+        byte[] columns = raw.toByteArray();
+
+        deflater.reset();
+        deflater.setInput(columns);
+        deflater.finish();
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(columns.length / 4 + 64);
+        while (!deflater.finished()) {
+            int length = deflater.deflate(compressBuffer);
+            compressed.write(compressBuffer, 0, length);
+        }
+
+        UUID first = block.get(0).getOrderId();
+        UUID last = block.get(block.size() - 1).getOrderId();
+        footer.add(new long[]{
+                first.getMostSignificantBits(), first.getLeastSignificantBits(),
+                last.getMostSignificantBits(), last.getLeastSignificantBits(),
+                position, block.size()});
+
+        out.writeInt(block.size());
+        out.writeInt(columns.length);
+        out.writeInt(compressed.size());
+        compressed.writeTo(out);
+        position += OrderSegment.BLOCK_HEADER_BYTES + compressed.size();
+        block.clear();
+    }
+
+    private void encodeColumns(DataOutputStream columns) throws IOException {
+        for (Order order : block) {
+            writeUuid(columns, order.getOrderId());
+        }
+        for (Order order : block) {
+            writeUuid(columns, order.getCustomerId());
+        }
+        for (Order order : block) {
+            columns.writeByte(order.getStatus().ordinal());
+        }
+        for (Order order : block) {
+            columns.writeLong(micros(order.getCreatedAt()));
+        }
+        for (Order order : block) {
+            columns.writeLong(micros(order.getUpdatedAt()));
+        }
+        for (Order order : block) {
+            columns.writeLong(order.getVersion() != null ? order.getVersion() : 0L);
+        }
+        for (Order order : block) {
+            writeString(columns, address(order) != null ? address(order).getCountry() : null);
+        }
+        for (Order order : block) {
+            writeString(columns, address(order) != null ? address(order).getCity() : null);
+        }
+        for (Order order : block) {
+            writeString(columns, address(order) != null ? address(order).getStreet() : null);
+        }
+        for (Order order : block) {
+            writeString(columns, address(order) != null ? address(order).getPostalCode() : null);
+        }
+        for (Order order : block) {
+            writeString(columns, order.getPaymentReference());
+        }
+        for (Order order : block) {
+            writeString(columns, order.getCancellationReason());
+        }
+
+        List<List<LineItem>> lines = new ArrayList<>(block.size());
+        for (Order order : block) {
+            List<LineItem> orderLines = order.orderLines();
+            lines.add(orderLines);
+            columns.writeInt(orderLines.size());
+        }
+        for (List<LineItem> orderLines : lines) {
+            for (LineItem line : orderLines) {
+                writeUuid(columns, line.productId());
+            }
+        }
+        for (List<LineItem> orderLines : lines) {
+            for (LineItem line : orderLines) {
+                columns.writeInt(line.quantity());
+            }
+        }
+    }
+
+    private static ShippingAddress address(Order order) {
+        return order.getShippingAddress();
+    }
+
+    private static void writeUuid(DataOutputStream out, UUID id) throws IOException {
+        out.writeLong(id.getMostSignificantBits());
+        out.writeLong(id.getLeastSignificantBits());
+    }
+
+    private static long micros(Instant instant) {
+        return instant != null ? ChronoUnit.MICROS.between(Instant.EPOCH, instant) : OrderSegment.NULL_TIMESTAMP;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
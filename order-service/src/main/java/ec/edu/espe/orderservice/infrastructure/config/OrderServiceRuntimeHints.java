@@ -0,0 +1,82 @@
+package ec.edu.espe.orderservice.infrastructure.config;
+
+import ec.edu.espe.orderservice.application.dto.BatchCreateOrderRequest;
+import ec.edu.espe.orderservice.application.dto.BatchCreateOrderResponse;
+import ec.edu.espe.orderservice.application.dto.CreateOrderRequest;
+import ec.edu.espe.orderservice.application.dto.CreateOrderResponse;
+import ec.edu.espe.orderservice.application.dto.OrderPageResponse;
+import ec.edu.espe.orderservice.application.dto.OrderResponse;
+import ec.edu.espe.orderservice.domain.model.LineItem;
+import ec.edu.espe.orderservice.domain.model.ShippingAddress;
+import ec.edu.espe.orderservice.infrastructure.logging.PerMessageSamplingFilter;
+import ec.edu.espe.orderservice.infrastructure.messaging.converter.Jackson2CborMessageConverter;
+import ec.edu.espe.orderservice.infrastructure.messaging.event.OrderCreatedEvent;
+import ec.edu.espe.orderservice.infrastructure.messaging.event.OrderStatusNotification;
+import ec.edu.espe.orderservice.infrastructure.messaging.event.StockRejectedEvent;
+import ec.edu.espe.orderservice.infrastructure.messaging.event.StockReservedEvent;
+import ec.edu.espe.orderservice.presentation.exception.ErrorResponse;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+/**
+ * Runtime Hints - Reflection metadata for the GraalVM native image (mvn -Pnative native:compile)
+ * Spring AOT already covers beans, @RequestBody/@ResponseBody types and JPA entities; this adds what it
+ * cannot see: events (de)serialized by the AMQP message converters and StockResponseDecoder, the JSONB
+ * line items, the CBOR item mix-in, the embedded ShippingAddress and classes Logback instantiates from logback-spring.xml.
+ */
+public class OrderServiceRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final Class<?>[] JSON_TYPES = {
+            OrderCreatedEvent.class,
+            OrderCreatedEvent.OrderItemEvent.class,
+            StockReservedEvent.class,
+            StockReservedEvent.ReservedItem.class,
+            StockRejectedEvent.class,
+            OrderStatusNotification.class,
+            CreateOrderRequest.class,
+            BatchCreateOrderRequest.class,
+            CreateOrderResponse.class,
+            BatchCreateOrderResponse.class,
+            OrderResponse.class,
+            OrderPageResponse.class,
+            ErrorResponse.class,
+            LineItem.class
+    };
+
+    private static final String[] LOGBACK_TYPES = {
+            "net.logstash.logback.encoder.LogstashEncoder",
+            "net.logstash.logback.stacktrace.ShortenedThrowableConverter"
+    };
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // Jackson: constructors, accessors and nested property types (Lombok generates plain getters/setters)
+        bindingRegistrar.registerReflectionHints(hints.reflection(), JSON_TYPES);
+
+        // Mix-in annotations are read reflectively from the (private) ItemTuple class
+        hints.reflection().registerType(
+                TypeReference.of(Jackson2CborMessageConverter.class.getName() + "$ItemTuple"));
+
+        hints.reflection().registerType(ShippingAddress.class,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.DECLARED_FIELDS,
+                MemberCategory.INVOKE_PUBLIC_METHODS);
+
+        // Logback creates turbo filters, encoders and converters by class name and configures them through setters
+        hints.reflection().registerType(PerMessageSamplingFilter.class,
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS);
+        for (String type : LOGBACK_TYPES) {
+            hints.reflection().registerType(TypeReference.of(type),
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+
+        hints.resources().registerPattern("logback-spring.xml");
+    }
+}
@@ -1,13 +1,18 @@
 package ec.edu.espe.orderservice.infrastructure.config;
 
+import ec.edu.espe.orderservice.infrastructure.messaging.converter.Jackson2CborMessageConverter;
 import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.ContentTypeDelegatingMessageConverter;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 /**
  * RabbitMQ Configuration
@@ -19,12 +24,24 @@ public class RabbitMQConfig {
     @Value("${rabbitmq.exchange.name}")
     private String exchangeName;
 
+    @Value("${rabbitmq.exchange.order-status}")
+    private String orderStatusExchangeName;
+
     @Value("${rabbitmq.queue.order-created}")
     private String orderCreatedQueue;
 
     @Value("${rabbitmq.queue.stock-response}")
     private String stockResponseQueue;
 
+    @Value("${rabbitmq.queue.stock-response-retry}")
+    private String stockResponseRetryQueue;
+
+    @Value("${rabbitmq.queue.stock-response-parked}")
+    private String stockResponseParkedQueue;
+
+    @Value("${rabbitmq.retry.stock-response.delay-ms:250}")
+    private int stockResponseRetryDelayMs;
+
     @Value("${rabbitmq.routing-key.order-created}")
     private String orderCreatedRoutingKey;
 
@@ -34,6 +51,24 @@ public class RabbitMQConfig {
     @Value("${rabbitmq.routing-key.stock-rejected}")
     private String stockRejectedRoutingKey;
 
+    @Value("${rabbitmq.publisher.content-type:application/json}")
+    private String publisherContentType;
+
+    @Value("${rabbitmq.listener.stock-response.concurrency:1}")
+    private int stockResponseConcurrency;
+
+    @Value("${rabbitmq.listener.stock-response.max-concurrency:1}")
+    private int stockResponseMaxConcurrency;
+
+    @Value("${rabbitmq.listener.stock-response.prefetch:250}")
+    private int stockResponsePrefetch;
+
+    @Value("${rabbitmq.listener.stock-response.batch-size:100}")
+    private int stockResponseBatchSize;
+
+    @Value("${rabbitmq.listener.stock-response.receive-timeout-ms:50}")
+    private long stockResponseReceiveTimeoutMs;
+
     /**
      * Exchange configuration
      */
@@ -42,6 +77,30 @@ public class RabbitMQConfig {
         return new TopicExchange(exchangeName);
     }
 
+    /**
+     * Fanout exchange for committed order status changes (OrderStatusBroadcaster)
+     */
+    @Bean
+    public FanoutExchange orderStatusExchange() {
+        return new FanoutExchange(orderStatusExchangeName);
+    }
+
+    /**
+     * This instance's queue of status change notifications: server-named, exclusive and auto-delete,
+     * so it disappears with the instance
+     */
+    @Bean
+    public Queue orderStatusQueue() {
+        return new AnonymousQueue(new Base64UrlNamingStrategy("order-service.status."));
+    }
+
+    @Bean
+    public Binding orderStatusBinding(Queue orderStatusQueue, FanoutExchange orderStatusExchange) {
+        return BindingBuilder
+                .bind(orderStatusQueue)
+                .to(orderStatusExchange);
+    }
+
     /**
      * Queue for OrderCreated events (consumed by Inventory Service)
      */
@@ -54,11 +113,38 @@ public class RabbitMQConfig {
 
     /**
      * Queue for Stock responses (consumed by Order Service)
+     * Single active consumer across all instances, so responses for an order are applied in queue order
      */
     @Bean
     public Queue stockResponseQueue() {
         return QueueBuilder
                 .durable(stockResponseQueue)
+                .singleActiveConsumer()
+                .build();
+    }
+
+    /**
+     * Delay queue for stock responses that arrived before their order was committed
+     * Messages expire after the retry delay and are dead-lettered back onto the stock response queue,
+     * so no consumer thread ever waits for them
+     */
+    @Bean
+    public Queue stockResponseRetryQueue() {
+        return QueueBuilder
+                .durable(stockResponseRetryQueue)
+                .ttl(stockResponseRetryDelayMs)
+                .deadLetterExchange("")
+                .deadLetterRoutingKey(stockResponseQueue)
+                .build();
+    }
+
+    /**
+     * Parking queue for stock responses whose order never appeared after all retries
+     */
+    @Bean
+    public Queue stockResponseParkedQueue() {
+        return QueueBuilder
+                .durable(stockResponseParkedQueue)
                 .build();
     }
 
@@ -93,20 +179,65 @@ public class RabbitMQConfig {
     }
 
     /**
-     * JSON Message Converter
+     * Message Converter negotiated by the content_type header
+     * Inbound JSON and CBOR are both accepted; outbound messages use rabbitmq.publisher.content-type
      */
     @Bean
-    public MessageConverter jsonMessageConverter() {
-        return new Jackson2JsonMessageConverter();
+    public MessageConverter messageConverter() {
+        MessageConverter json = new Jackson2JsonMessageConverter();
+        MessageConverter cbor = new Jackson2CborMessageConverter();
+        ContentTypeDelegatingMessageConverter converter = new ContentTypeDelegatingMessageConverter(
+                Jackson2CborMessageConverter.CONTENT_TYPE_CBOR.equals(publisherContentType) ? cbor : json);
+        converter.addDelegate(MessageProperties.CONTENT_TYPE_JSON, json);
+        converter.addDelegate(Jackson2CborMessageConverter.CONTENT_TYPE_CBOR, cbor);
+        return converter;
     }
 
     /**
-     * RabbitTemplate with JSON converter
+     * RabbitTemplate with the negotiating converter
+     * Mandatory so unroutable messages are returned and reported on their CorrelationData
+     * Observed, so every send is a span and carries the W3C traceparent header
      */
     @Bean
     public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
         RabbitTemplate template = new RabbitTemplate(connectionFactory);
-        template.setMessageConverter(jsonMessageConverter());
+        template.setMessageConverter(messageConverter());
+        template.setMandatory(true);
+        template.setObservationEnabled(true);
         return template;
     }
+
+    /**
+     * Executor for publish retries and fallbacks
+     * Confirm callbacks run on the AMQP connection thread, which must never block or publish
+     */
+    @Bean
+    public ThreadPoolTaskExecutor publisherRecoveryExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("publish-recovery-");
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(10000);
+        return executor;
+    }
+
+    /**
+     * Listener container for stock responses: one consumer delivering batches of messages
+     * A partial batch is released once no message arrives within the receive timeout
+     * The queue only feeds one consumer at a time, so extra consumers would stay idle until it fails over
+     */
+    @Bean
+    public SimpleRabbitListenerContainerFactory stockResponseListenerContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer, ConnectionFactory connectionFactory) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setConcurrentConsumers(stockResponseConcurrency);
+        factory.setMaxConcurrentConsumers(stockResponseMaxConcurrency);
+        factory.setPrefetchCount(stockResponsePrefetch);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(stockResponseBatchSize);
+        factory.setReceiveTimeout(stockResponseReceiveTimeoutMs);
+        return factory;
+    }
 }
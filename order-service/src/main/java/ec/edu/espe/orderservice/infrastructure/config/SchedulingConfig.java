@@ -0,0 +1,13 @@
+package ec.edu.espe.orderservice.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Scheduling Configuration
+ * Enables background jobs such as the outbox relay
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,18 @@
+package ec.edu.espe.orderservice.infrastructure.logging;
+
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+/**
+ * Log Markers - Classifies log statements for filtering in logback-spring.xml
+ */
+public final class LogMarkers {
+
+    /**
+     * Logged once per order, request or message; sampled by PerMessageSamplingFilter
+     */
+    public static final Marker PER_MESSAGE = MarkerFactory.getMarker("PER_MESSAGE");
+
+    private LogMarkers() {
+    }
+}
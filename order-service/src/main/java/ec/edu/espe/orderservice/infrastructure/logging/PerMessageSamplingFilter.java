@@ -0,0 +1,33 @@
+package ec.edu.espe.orderservice.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Per-Message Sampling Filter - Keeps a fraction of the INFO and lower events marked PER_MESSAGE
+ * Runs as a turbo filter, before the level check, so a dropped event is never formatted or queued.
+ * Level checks (isInfoEnabled) pass through unsampled; WARN and ERROR are always kept.
+ * Configured from orders.logging.per-message-sample-rate (1.0 keeps everything, 0.0 drops everything).
+ */
+public class PerMessageSamplingFilter extends TurboFilter {
+
+    private double sampleRate = 1.0;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (format == null || marker == null || sampleRate >= 1.0
+                || level.isGreaterOrEqual(Level.WARN) || !marker.contains(LogMarkers.PER_MESSAGE)) {
+            return FilterReply.NEUTRAL;
+        }
+        return ThreadLocalRandom.current().nextDouble() < sampleRate ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+}
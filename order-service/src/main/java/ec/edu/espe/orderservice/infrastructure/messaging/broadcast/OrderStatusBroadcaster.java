@@ -0,0 +1,69 @@
+package ec.edu.espe.orderservice.infrastructure.messaging.broadcast;
+
+import ec.edu.espe.orderservice.application.event.OrderStatusChangedEvent;
+import ec.edu.espe.orderservice.domain.model.OrderStatus;
+import ec.edu.espe.orderservice.infrastructure.logging.LogMarkers;
+import ec.edu.espe.orderservice.infrastructure.messaging.event.OrderStatusNotification;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+
+/**
+ * Order Status Broadcaster - Shares committed status changes between order-service instances
+ * A stock response is applied by whichever instance consumed it, but long-poll waiters and cached responses
+ * live in every instance. After a change commits it is published to a fanout exchange; each instance receives
+ * it on its own exclusive queue and republishes it in-process as a remote OrderStatusChangedEvent, which
+ * invalidates the cached response and wakes local waiters.
+ *
+ * Notifications are best effort: if one is lost, waiters on other instances fall back to their timeout and
+ * cached PENDING responses to their TTL (orders.cache.pending-ttl).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderStatusBroadcaster {
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final RabbitTemplate rabbitTemplate;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Value("${rabbitmq.exchange.order-status}")
+    private String orderStatusExchange;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        if (event.isRemote()) {
+            return;
+        }
+        try {
+            rabbitTemplate.convertAndSend(orderStatusExchange, "", OrderStatusNotification.builder()
+                    .orderId(event.getOrderId())
+                    .status(event.getStatus().name())
+                    .origin(instanceId)
+                    .build());
+        } catch (AmqpException e) {
+            log.warn("Failed to broadcast status change of order {} to {}", event.getOrderId(), event.getStatus(), e);
+        }
+    }
+
+    @RabbitListener(queues = "#{orderStatusQueue.name}")
+    public void handleOrderStatusNotification(OrderStatusNotification notification) {
+        if (instanceId.equals(notification.getOrigin())) {
+            return;
+        }
+        log.debug(LogMarkers.PER_MESSAGE, "Order {} changed to {} on another instance",
+                notification.getOrderId(), notification.getStatus());
+        applicationEventPublisher.publishEvent(OrderStatusChangedEvent.remote(
+                notification.getOrderId(), OrderStatus.valueOf(notification.getStatus())));
+    }
+}
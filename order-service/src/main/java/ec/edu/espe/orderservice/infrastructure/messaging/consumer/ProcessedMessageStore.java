@@ -0,0 +1,39 @@
+package ec.edu.espe.orderservice.infrastructure.messaging.consumer;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Processed Message Store - Bounded record of stock responses already applied, keyed by correlationId
+ * Inventory answers each OrderCreated exactly once per correlationId, so any later message carrying the same
+ * id is a redelivery. Entries are evicted by size and age; the conditional status updates remain the
+ * backstop for duplicates that arrive after eviction.
+ */
+@Component
+public class ProcessedMessageStore {
+
+    private final Cache<UUID, Boolean> processed;
+
+    public ProcessedMessageStore(@Value("${rabbitmq.listener.stock-response.dedup.maximum-size:100000}") long maximumSize,
+                                 @Value("${rabbitmq.listener.stock-response.dedup.retention:1h}") Duration retention) {
+        this.processed = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(retention)
+                .build();
+    }
+
+    public boolean isProcessed(UUID correlationId) {
+        return correlationId != null && processed.getIfPresent(correlationId) != null;
+    }
+
+    public void markProcessed(UUID correlationId) {
+        if (correlationId != null) {
+            processed.put(correlationId, Boolean.TRUE);
+        }
+    }
+}
@@ -1,15 +1,34 @@
 package ec.edu.espe.orderservice.infrastructure.messaging.consumer;
 
+import ec.edu.espe.orderservice.application.dto.StockResponse;
 import ec.edu.espe.orderservice.application.service.OrderService;
+import ec.edu.espe.orderservice.infrastructure.logging.LogMarkers;
 import ec.edu.espe.orderservice.infrastructure.messaging.event.StockRejectedEvent;
 import ec.edu.espe.orderservice.infrastructure.messaging.event.StockReservedEvent;
+import ec.edu.espe.orderservice.infrastructure.messaging.event.StockResponseEvent;
+import ec.edu.espe.orderservice.infrastructure.messaging.tracing.MessageTracing;
+import ec.edu.espe.orderservice.infrastructure.metrics.OrderMetrics;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Stock Response Event Consumer
@@ -20,60 +39,135 @@ import java.nio.charset.StandardCharsets;
 @Slf4j
 public class StockResponseConsumer {
 
+    static final String RETRY_COUNT_HEADER = "x-retry-count";
+
     private final OrderService orderService;
+    private final StockResponseDecoder stockResponseDecoder;
+    private final RabbitTemplate rabbitTemplate;
+    private final ProcessedMessageStore processedMessageStore;
+    private final OrderMetrics orderMetrics;
+    private final MessageTracing messageTracing;
+
+    @Value("${rabbitmq.queue.stock-response-retry}")
+    private String stockResponseRetryQueue;
+
+    @Value("${rabbitmq.queue.stock-response-parked}")
+    private String stockResponseParkedQueue;
+
+    @Value("${rabbitmq.retry.stock-response.max-attempts:5}")
+    private int maxRetryAttempts;
 
     /**
-     * Handle StockReserved event
+     * Handle batches of StockReserved and StockRejected events
+     * The whole batch is applied in one transaction; responses for orders that are not visible yet
+     * are deferred through the retry queue instead of blocking the consumer
      */
-    @RabbitListener(queues = "${rabbitmq.queue.stock-response}")
-    public void handleStockResponse(Message message) {
-        String messageContent = null;
+    @RabbitListener(queues = "${rabbitmq.queue.stock-response}",
+            containerFactory = "stockResponseListenerContainerFactory")
+    public void handleStockResponses(List<Message> messages) {
+        long start = System.nanoTime();
+        // Each message continues its order's trace; the batch work (and its JDBC spans) is linked to all of them
+        Map<Message, Span> messageSpans = new IdentityHashMap<>(messages.size());
+        messages.forEach(message -> messageSpans.put(message, messageTracing.startConsumerSpan(message, "stock.response receive")));
+        Span batchSpan = messageTracing.startLinkedSpan("stock.response apply batch", messageSpans.values());
+        try (Tracer.SpanInScope ignored = messageTracing.withSpan(batchSpan)) {
+            applyBatch(messages, messageSpans);
+        } catch (RuntimeException e) {
+            batchSpan.error(e);
+            messageSpans.values().forEach(span -> span.error(e));
+            throw e;
+        } finally {
+            batchSpan.end();
+            messageSpans.values().forEach(Span::end);
+            orderMetrics.recordStockBatch(start);
+        }
+    }
+
+    private void applyBatch(List<Message> messages, Map<Message, Span> messageSpans) {
+        List<StockResponse> responses = new ArrayList<>(messages.size());
+        Map<UUID, Message> messagesByOrder = new HashMap<>();
+        for (Message message : messages) {
+            decode(message).ifPresent(event -> {
+                orderMetrics.recordStockResponseLag(event.getRespondedAt());
+                if (processedMessageStore.isProcessed(event.getCorrelationId())) {
+                    orderMetrics.stockResponsesDuplicate(1);
+                    log.debug(LogMarkers.PER_MESSAGE, "Skipping already processed stock response {} for order {}",
+                            event.getCorrelationId(), event.getOrderId());
+                    return;
+                }
+                responses.add(toStockResponse(event));
+                messagesByOrder.putIfAbsent(event.getOrderId(), message);
+            });
+        }
+        if (responses.isEmpty()) {
+            return;
+        }
+
+        log.debug(LogMarkers.PER_MESSAGE, "Received batch of {} stock responses", responses.size());
+        List<StockResponse> unresolved = orderService.applyStockResponses(responses);
+
+        // Only record responses once their transaction has committed, so a failed batch is redelivered in full
+        Set<UUID> deferred = unresolved.stream().map(StockResponse::getOrderId).collect(Collectors.toSet());
+        responses.stream()
+                .filter(response -> !deferred.contains(response.getOrderId()))
+                .forEach(response -> processedMessageStore.markProcessed(response.getCorrelationId()));
+        orderMetrics.stockResponsesDeferred(unresolved.size());
+        unresolved.forEach(response -> {
+            Message message = messagesByOrder.get(response.getOrderId());
+            // The retried message keeps the order's trace rather than the batch's
+            try (Tracer.SpanInScope ignored = messageTracing.withSpan(messageSpans.get(message))) {
+                deferRetry(response, message);
+            }
+        });
+    }
+
+    private Optional<StockResponseEvent> decode(Message message) {
         try {
-            messageContent = new String(message.getBody(), StandardCharsets.UTF_8);
-            log.info("==> Received stock response: {}", messageContent);
-            
-            // Parse the event based on eventType
-            if (messageContent.contains("\"eventType\":\"StockReserved\"")) {
-                log.info("==> Processing as StockReserved");
-                handleStockReserved(messageContent);
-            } else if (messageContent.contains("\"eventType\":\"StockRejected\"")) {
-                log.info("==> Processing as StockRejected");
-                handleStockRejected(messageContent);
-            } else {
-                log.warn("==> Unknown event type in message: {}", messageContent);
+            Optional<StockResponseEvent> decoded = stockResponseDecoder.decode(message);
+            if (decoded.isEmpty()) {
+                log.warn("==> Unknown event type in stock response {}", message.getMessageProperties().getMessageId());
+                orderMetrics.stockResponseUndecodable();
             }
-        } catch (Exception e) {
-            log.error("Failed to process stock response: {}", messageContent, e);
-            throw new RuntimeException("Failed to process message", e);
+            return decoded;
+        } catch (MessageConversionException e) {
+            // A poison message must not redeliver the whole batch, so it is dropped here
+            log.error("Failed to decode stock response, discarding message {}",
+                    message.getMessageProperties().getMessageId(), e);
+            orderMetrics.stockResponseUndecodable();
+            return Optional.empty();
         }
     }
 
-    private void handleStockReserved(String message) {
-        try {
-            // Parse JSON manually or use ObjectMapper
-            com.fasterxml.jackson.databind.ObjectMapper mapper = new com.fasterxml.jackson.databind.ObjectMapper();
-            mapper.findAndRegisterModules();
-            StockReservedEvent event = mapper.readValue(message, StockReservedEvent.class);
-            
-            log.info("Processing StockReserved event for order: {}", event.getOrderId());
-            orderService.confirmOrder(event.getOrderId());
-            log.info("Order confirmed successfully: {}", event.getOrderId());
-        } catch (Exception e) {
-            log.error("Failed to handle StockReserved event", e);
+    private StockResponse toStockResponse(StockResponseEvent event) {
+        StockResponse.StockResponseBuilder builder = StockResponse.builder()
+                .orderId(event.getOrderId())
+                .correlationId(event.getCorrelationId())
+                .reserved(event instanceof StockReservedEvent);
+        if (event instanceof StockRejectedEvent rejected) {
+            builder.reason(rejected.getReason());
         }
+        return builder.build();
     }
 
-    private void handleStockRejected(String message) {
-        try {
-            com.fasterxml.jackson.databind.ObjectMapper mapper = new com.fasterxml.jackson.databind.ObjectMapper();
-            mapper.findAndRegisterModules();
-            StockRejectedEvent event = mapper.readValue(message, StockRejectedEvent.class);
-            
-            log.info("Processing StockRejected event for order: {}", event.getOrderId());
-            orderService.cancelOrder(event.getOrderId(), event.getReason());
-            log.info("Order cancelled successfully: {}", event.getOrderId());
-        } catch (Exception e) {
-            log.error("Failed to handle StockRejected event", e);
+    /**
+     * Send the original message to the delay queue; it comes back on the stock response queue after the TTL
+     */
+    private void deferRetry(StockResponse response, Message message) {
+        Integer previous = message.getMessageProperties().getHeader(RETRY_COUNT_HEADER);
+        int attempt = previous == null ? 1 : previous + 1;
+
+        if (attempt > maxRetryAttempts) {
+            log.error("Order {} still not found after {} retries, parking stock response",
+                    response.getOrderId(), maxRetryAttempts);
+            rabbitTemplate.send("", stockResponseParkedQueue, message);
+            orderMetrics.stockResponseParked();
+            return;
         }
+
+        log.warn("Order {} not found yet, deferring stock response (attempt {}/{})",
+                response.getOrderId(), attempt, maxRetryAttempts);
+        rabbitTemplate.send("", stockResponseRetryQueue, MessageBuilder.fromMessage(message)
+                .setHeader(RETRY_COUNT_HEADER, attempt)
+                .build());
     }
 }
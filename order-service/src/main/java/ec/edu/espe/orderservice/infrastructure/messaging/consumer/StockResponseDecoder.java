@@ -0,0 +1,110 @@
+package ec.edu.espe.orderservice.infrastructure.messaging.consumer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import ec.edu.espe.orderservice.infrastructure.messaging.converter.Jackson2CborMessageConverter;
+import ec.edu.espe.orderservice.infrastructure.messaging.event.StockRejectedEvent;
+import ec.edu.espe.orderservice.infrastructure.messaging.event.StockReservedEvent;
+import ec.edu.espe.orderservice.infrastructure.messaging.event.StockResponseEvent;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Stock Response Decoder - Binds stock response messages to their typed events
+ * Uses shared ObjectReaders (root deserializers resolved once at startup) and parses each body exactly once:
+ * when the producer sets the AMQP type or an eventType header the body is bound directly,
+ * otherwise it is read into a tree once and the eventType field selects the target class.
+ * The codec is chosen by the content_type header: application/cbor is read with the CBOR event schema,
+ * anything else as JSON, so JSON and CBOR producers can coexist.
+ */
+@Component
+public class StockResponseDecoder {
+
+    static final String STOCK_RESERVED = "StockReserved";
+    static final String STOCK_REJECTED = "StockRejected";
+    private static final String EVENT_TYPE_HEADER = "eventType";
+
+    private final Readers jsonReaders;
+    private final Readers cborReaders;
+
+    public StockResponseDecoder(ObjectMapper objectMapper) {
+        this.jsonReaders = new Readers(objectMapper);
+        this.cborReaders = new Readers(Jackson2CborMessageConverter.createObjectMapper());
+    }
+
+    /**
+     * Decode a stock response; empty when the event type is not one this service handles
+     */
+    public Optional<StockResponseEvent> decode(Message message) {
+        byte[] body = message.getBody();
+        Readers readers = readersFor(message.getMessageProperties());
+        try {
+            String declaredType = declaredType(message.getMessageProperties());
+            if (declaredType != null) {
+                return Optional.ofNullable(readers.bind(declaredType, body));
+            }
+
+            JsonNode tree = readers.tree.readTree(body);
+            return Optional.ofNullable(readers.bind(tree.path(EVENT_TYPE_HEADER).asText(null), tree));
+        } catch (IOException e) {
+            throw new MessageConversionException("Failed to decode stock response", e);
+        }
+    }
+
+    private String declaredType(MessageProperties properties) {
+        if (STOCK_RESERVED.equals(properties.getType()) || STOCK_REJECTED.equals(properties.getType())) {
+            return properties.getType();
+        }
+        Object header = properties.getHeader(EVENT_TYPE_HEADER);
+        return header != null ? header.toString() : null;
+    }
+
+    private Readers readersFor(MessageProperties properties) {
+        String contentType = properties.getContentType();
+        return contentType != null && contentType.startsWith(Jackson2CborMessageConverter.CONTENT_TYPE_CBOR)
+                ? cborReaders
+                : jsonReaders;
+    }
+
+    /**
+     * Readers bound to one codec
+     */
+    private static final class Readers {
+
+        private final ObjectReader tree;
+        private final ObjectReader reserved;
+        private final ObjectReader rejected;
+
+        private Readers(ObjectMapper mapper) {
+            this.tree = mapper.reader();
+            this.reserved = mapper.readerFor(StockReservedEvent.class);
+            this.rejected = mapper.readerFor(StockRejectedEvent.class);
+        }
+
+        private StockResponseEvent bind(String eventType, byte[] body) throws IOException {
+            if (STOCK_RESERVED.equals(eventType)) {
+                return reserved.readValue(body);
+            }
+            if (STOCK_REJECTED.equals(eventType)) {
+                return rejected.readValue(body);
+            }
+            return null;
+        }
+
+        private StockResponseEvent bind(String eventType, JsonNode node) throws IOException {
+            if (STOCK_RESERVED.equals(eventType)) {
+                return reserved.readValue(node);
+            }
+            if (STOCK_REJECTED.equals(eventType)) {
+                return rejected.readValue(node);
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package ec.edu.espe.orderservice.infrastructure.messaging.converter;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import ec.edu.espe.orderservice.infrastructure.messaging.event.OrderCreatedEvent;
+import ec.edu.espe.orderservice.infrastructure.messaging.event.StockReservedEvent;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractJackson2MessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MimeType;
+
+import java.io.IOException;
+
+/**
+ * CBOR Message Converter - Binary encoding of the integration events (RFC 8949)
+ * Wire schema: src/main/resources/schema/events.cddl
+ *
+ * UUIDs are written as 16-byte strings, timestamps as epoch milliseconds and line items as
+ * positional [productId, quantity] arrays, so field names are not repeated per item.
+ * The item layout is applied through mix-ins on this mapper only; the JSON encoding is unchanged.
+ */
+public class Jackson2CborMessageConverter extends AbstractJackson2MessageConverter {
+
+    public static final String CONTENT_TYPE_CBOR = "application/cbor";
+
+    public Jackson2CborMessageConverter() {
+        super(createObjectMapper(), MimeType.valueOf(CONTENT_TYPE_CBOR), "*");
+    }
+
+    /**
+     * The base class decodes every body through a String in the message charset, which corrupts binary CBOR:
+     * bind the raw bytes instead, to the type the listener expects (or the __TypeId__ header)
+     */
+    @Override
+    public Object fromMessage(Message message, @Nullable Object conversionHint) throws MessageConversionException {
+        MessageProperties properties = message.getMessageProperties();
+        if (properties == null || properties.getContentType() == null
+                || !getSupportedContentType().includes(MimeType.valueOf(properties.getContentType()))) {
+            return super.fromMessage(message, conversionHint);
+        }
+        JavaType type = conversionHint instanceof ParameterizedTypeReference<?> reference
+                ? objectMapper.constructType(reference.getType())
+                : getJavaTypeMapper().toJavaType(properties);
+        try {
+            return objectMapper.readValue(message.getBody(), type);
+        } catch (IOException e) {
+            throw new MessageConversionException("Failed to decode CBOR message", e);
+        }
+    }
+
+    /**
+     * Mapper implementing the CBOR event schema; shared with StockResponseDecoder
+     */
+    public static ObjectMapper createObjectMapper() {
+        return CBORMapper.builder()
+                .addModule(new JavaTimeModule())
+                .enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS)
+                .disable(DeserializationFeature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .addMixIn(OrderCreatedEvent.OrderItemEvent.class, ItemTuple.class)
+                .addMixIn(StockReservedEvent.ReservedItem.class, ItemTuple.class)
+                .build();
+    }
+
+    @JsonFormat(shape = JsonFormat.Shape.ARRAY)
+    @JsonPropertyOrder({"productId", "quantity"})
+    private abstract static class ItemTuple {
+    }
+}
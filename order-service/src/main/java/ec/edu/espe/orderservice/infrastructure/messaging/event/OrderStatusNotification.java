@@ -0,0 +1,23 @@
+package ec.edu.espe.orderservice.infrastructure.messaging.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * OrderStatusNotification - Broadcast to every order-service instance after a status change commits
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderStatusNotification {
+
+    private UUID orderId;
+    private String status;
+    /** Instance that committed the change; it ignores its own notifications */
+    private String origin;
+}
@@ -1,5 +1,6 @@
 package ec.edu.espe.orderservice.infrastructure.messaging.event;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -15,11 +16,17 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class StockRejectedEvent {
+public class StockRejectedEvent implements StockResponseEvent {
 
     private String eventType;
     private UUID orderId;
     private UUID correlationId;
     private String reason;
     private Instant rejectedAt;
+
+    @Override
+    @JsonIgnore
+    public Instant getRespondedAt() {
+        return rejectedAt;
+    }
 }
@@ -1,5 +1,6 @@
 package ec.edu.espe.orderservice.infrastructure.messaging.event;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -16,7 +17,7 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class StockReservedEvent {
+public class StockReservedEvent implements StockResponseEvent {
 
     private String eventType;
     private UUID orderId;
@@ -24,6 +25,12 @@ public class StockReservedEvent {
     private List<ReservedItem> reservedItems;
     private Instant reservedAt;
 
+    @Override
+    @JsonIgnore
+    public Instant getRespondedAt() {
+        return reservedAt;
+    }
+
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
@@ -0,0 +1,21 @@
+package ec.edu.espe.orderservice.infrastructure.messaging.event;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Common view of the events received on the stock response queue
+ */
+public interface StockResponseEvent {
+
+    String getEventType();
+
+    UUID getOrderId();
+
+    UUID getCorrelationId();
+
+    /**
+     * When inventory produced the response (reservedAt / rejectedAt)
+     */
+    Instant getRespondedAt();
+}
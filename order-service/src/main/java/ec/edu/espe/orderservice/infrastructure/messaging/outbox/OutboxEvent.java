@@ -0,0 +1,60 @@
+package ec.edu.espe.orderservice.infrastructure.messaging.outbox;
+
+import ec.edu.espe.orderservice.domain.model.UuidV7;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * OutboxEvent Entity - An integration event waiting to be relayed to the broker
+ * Written in the same transaction as the aggregate it describes
+ */
+@Entity
+@Table(name = "outbox_events")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    @Id
+    @Column(name = "event_id", updatable = false, nullable = false)
+    private UUID eventId;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private UUID aggregateId;
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    @Column(name = "routing_key", nullable = false)
+    private String routingKey;
+
+    @Column(name = "content_type", nullable = false)
+    private String contentType;
+
+    @Column(nullable = false)
+    private byte[] payload;
+
+    /**
+     * W3C traceparent of the request that produced the event, so the relayed publish joins its trace
+     */
+    @Column(name = "trace_parent")
+    private String traceParent;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (eventId == null) {
+            eventId = UuidV7.next();
+        }
+        createdAt = Instant.now();
+    }
+}
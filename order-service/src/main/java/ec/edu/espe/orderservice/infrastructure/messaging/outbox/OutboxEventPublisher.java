@@ -0,0 +1,77 @@
+package ec.edu.espe.orderservice.infrastructure.messaging.outbox;
+
+import ec.edu.espe.orderservice.domain.model.Order;
+import ec.edu.espe.orderservice.infrastructure.logging.LogMarkers;
+import ec.edu.espe.orderservice.infrastructure.messaging.publisher.EventPublisher;
+import ec.edu.espe.orderservice.infrastructure.messaging.publisher.OrderEventFactory;
+import ec.edu.espe.orderservice.infrastructure.messaging.tracing.MessageTracing;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * Outbox Event Publisher Implementation
+ * Stores events in the outbox table inside the caller's transaction; OutboxRelay forwards them to RabbitMQ
+ */
+@Component
+@Primary
+@ConditionalOnProperty(name = "orders.outbox.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxEventPublisher implements EventPublisher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OrderEventFactory orderEventFactory;
+    private final MessageConverter messageConverter;
+    private final MessageTracing messageTracing;
+
+    @Value("${rabbitmq.routing-key.order-created}")
+    private String orderCreatedRoutingKey;
+
+    @Override
+    public void publishOrderCreated(Order order) {
+        outboxEventRepository.save(toOutboxEvent(order, messageTracing.currentTraceParent()));
+        log.debug(LogMarkers.PER_MESSAGE, "Stored OrderCreated event in outbox for order: {}", order.getOrderId());
+    }
+
+    @Override
+    public CompletableFuture<Void> publishOrderCreatedAsync(Order order) {
+        // The outbox row is the durable acceptance; it commits with the caller's transaction
+        publishOrderCreated(order);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public void publishOrdersCreated(List<Order> orders) {
+        String traceParent = messageTracing.currentTraceParent();
+        outboxEventRepository.saveAll(orders.stream()
+                .map(order -> toOutboxEvent(order, traceParent))
+                .collect(Collectors.toList()));
+        log.debug("Stored {} OrderCreated events in outbox", orders.size());
+    }
+
+    private OutboxEvent toOutboxEvent(Order order, String traceParent) {
+        // Serialize with the broker converter so relayed bytes match a direct publish
+        Message message = messageConverter.toMessage(
+                orderEventFactory.toOrderCreatedEvent(order), new MessageProperties());
+
+        return OutboxEvent.builder()
+                .aggregateId(order.getOrderId())
+                .eventType("OrderCreated")
+                .routingKey(orderCreatedRoutingKey)
+                .contentType(message.getMessageProperties().getContentType())
+                .payload(message.getBody())
+                .traceParent(traceParent)
+                .build();
+    }
+}
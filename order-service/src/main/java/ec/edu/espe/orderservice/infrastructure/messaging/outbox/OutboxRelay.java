@@ -0,0 +1,94 @@
+package ec.edu.espe.orderservice.infrastructure.messaging.outbox;
+
+import ec.edu.espe.orderservice.infrastructure.messaging.publisher.RabbitMQEventPublisher;
+import ec.edu.espe.orderservice.infrastructure.messaging.tracing.MessageTracing;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Outbox Relay
+ * Drains the outbox table in batches and forwards events to RabbitMQ with publisher confirms.
+ * Rows are deleted only after the broker confirms the whole batch, in the same transaction that locked them,
+ * so a failed publish leaves them in place for the next run (at-least-once delivery).
+ * Always active: with the outbox disabled it still drains events RabbitMQEventPublisher could not get confirmed.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final RabbitMQEventPublisher rabbitMQEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final MessageTracing messageTracing;
+
+    @Value("${orders.outbox.relay.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${orders.outbox.relay.poll-interval-ms:200}")
+    public void relay() {
+        try {
+            Integer relayed;
+            do {
+                relayed = transactionTemplate.execute(status -> relayBatch());
+            } while (relayed != null && relayed == batchSize);
+        } catch (Exception e) {
+            log.error("Outbox relay run failed, pending events will be retried", e);
+        }
+    }
+
+    private int relayBatch() {
+        List<OutboxEvent> batch = outboxEventRepository.lockNextBatch(batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        // Pipelined sends; a nack, return or timeout throws and rolls back, keeping the rows
+        CompletableFuture<?>[] confirms = batch.stream()
+                .map(this::send)
+                .toArray(CompletableFuture[]::new);
+        rabbitMQEventPublisher.awaitAll(confirms);
+
+        outboxEventRepository.deleteAllInBatch(batch);
+        log.debug("Relayed {} outbox events", batch.size());
+        return batch.size();
+    }
+
+    /**
+     * Publish inside a span that continues the originating request's trace; the template observation
+     * injects the traceparent of its send span into the message headers
+     */
+    private CompletableFuture<Void> send(OutboxEvent event) {
+        Span span = messageTracing.startProducerSpan(event.getTraceParent(), "outbox relay " + event.getEventType());
+        try (Tracer.SpanInScope ignored = messageTracing.withSpan(span)) {
+            return rabbitMQEventPublisher.send(event.getRoutingKey(), toMessage(event))
+                    .whenComplete((confirmed, error) -> {
+                        if (error != null) {
+                            span.error(error);
+                        }
+                        span.end();
+                    });
+        }
+    }
+
+    private Message toMessage(OutboxEvent event) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(event.getContentType());
+        properties.setMessageId(event.getEventId().toString());
+        properties.setType(event.getEventType());
+        properties.setDeliveryMode(MessageDeliveryMode.PERSISTENT);
+        return new Message(event.getPayload(), properties);
+    }
+}
@@ -2,6 +2,9 @@ package ec.edu.espe.orderservice.infrastructure.messaging.publisher;
 
 import ec.edu.espe.orderservice.domain.model.Order;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Event Publisher Interface
  * Follows Interface Segregation Principle and Dependency Inversion Principle
@@ -12,4 +15,16 @@ public interface EventPublisher {
      * Publish OrderCreated event
      */
     void publishOrderCreated(Order order);
+
+    /**
+     * Publish OrderCreated event
+     * The future completes once the event is durably accepted (broker confirm or durable fallback)
+     */
+    CompletableFuture<Void> publishOrderCreatedAsync(Order order);
+
+    /**
+     * Publish OrderCreated events for a batch of orders
+     * Returns once every event has been confirmed by the broker
+     */
+    void publishOrdersCreated(List<Order> orders);
 }
@@ -0,0 +1,32 @@
+package ec.edu.espe.orderservice.infrastructure.messaging.publisher;
+
+import ec.edu.espe.orderservice.domain.model.Order;
+import ec.edu.espe.orderservice.infrastructure.messaging.event.OrderCreatedEvent;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Order Event Factory - Builds integration events from the Order aggregate
+ * Shared by every EventPublisher implementation so the wire contract stays in one place
+ */
+@Component
+public class OrderEventFactory {
+
+    public OrderCreatedEvent toOrderCreatedEvent(Order order) {
+        return OrderCreatedEvent.builder()
+                .eventType("OrderCreated")
+                .orderId(order.getOrderId())
+                .correlationId(UUID.randomUUID())
+                .createdAt(Instant.now())
+                .items(order.orderLines().stream()
+                        .map(item -> OrderCreatedEvent.OrderItemEvent.builder()
+                                .productId(item.productId())
+                                .quantity(item.quantity())
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+    }
+}
@@ -1,27 +1,51 @@
 package ec.edu.espe.orderservice.infrastructure.messaging.publisher;
 
 import ec.edu.espe.orderservice.domain.model.Order;
-import ec.edu.espe.orderservice.infrastructure.messaging.event.OrderCreatedEvent;
-import lombok.RequiredArgsConstructor;
+import ec.edu.espe.orderservice.infrastructure.logging.LogMarkers;
+import ec.edu.espe.orderservice.infrastructure.messaging.outbox.OutboxEvent;
+import ec.edu.espe.orderservice.infrastructure.messaging.outbox.OutboxEventRepository;
+import ec.edu.espe.orderservice.infrastructure.messaging.tracing.MessageTracing;
+import ec.edu.espe.orderservice.infrastructure.metrics.OrderMetrics;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Component;
 
-import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * RabbitMQ Event Publisher Implementation
  * Follows Single Responsibility Principle: Only publishes events to RabbitMQ
+ *
+ * Uses correlated publisher confirms handled asynchronously: sends are pipelined on the channel and
+ * at most max-in-flight messages await their confirm at any time (callers block when the window is full).
+ * Nacked or returned messages are retried, then stored in the outbox table for OutboxRelay to deliver.
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class RabbitMQEventPublisher implements EventPublisher {
 
+    private static final String ORDER_CREATED = "OrderCreated";
+
     private final RabbitTemplate rabbitTemplate;
+    private final OrderEventFactory orderEventFactory;
+    private final OutboxEventRepository outboxEventRepository;
+    private final TaskExecutor recoveryExecutor;
+    private final OrderMetrics orderMetrics;
+    private final Semaphore inFlight;
 
     @Value("${rabbitmq.exchange.name}")
     private String exchangeName;
@@ -29,27 +53,150 @@ public class RabbitMQEventPublisher implements EventPublisher {
     @Value("${rabbitmq.routing-key.order-created}")
     private String orderCreatedRoutingKey;
 
+    @Value("${rabbitmq.publisher.confirm-timeout-ms:5000}")
+    private long confirmTimeoutMs;
+
+    @Value("${rabbitmq.publisher.max-attempts:3}")
+    private int maxAttempts;
+
+    public RabbitMQEventPublisher(RabbitTemplate rabbitTemplate,
+                                  OrderEventFactory orderEventFactory,
+                                  OutboxEventRepository outboxEventRepository,
+                                  @Qualifier("publisherRecoveryExecutor") TaskExecutor recoveryExecutor,
+                                  OrderMetrics orderMetrics,
+                                  @Value("${rabbitmq.publisher.max-in-flight:1000}") int maxInFlight) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.orderEventFactory = orderEventFactory;
+        this.outboxEventRepository = outboxEventRepository;
+        this.recoveryExecutor = recoveryExecutor;
+        this.orderMetrics = orderMetrics;
+        this.inFlight = new Semaphore(maxInFlight);
+    }
+
     @Override
     public void publishOrderCreated(Order order) {
+        // Does not wait for the confirm: failures are retried and fall back to the outbox in the background
+        long start = System.nanoTime();
+        publishOrderCreatedAsync(order);
+        orderMetrics.recordPublish(start);
+    }
+
+    @Override
+    public CompletableFuture<Void> publishOrderCreatedAsync(Order order) {
+        Message message = toMessage(order);
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        attempt(order.getOrderId(), message, 1, result);
+        return result;
+    }
+
+    @Override
+    public void publishOrdersCreated(List<Order> orders) {
+        // Pipeline the whole batch, then wait once for the confirm window to drain
+        CompletableFuture<?>[] confirms = orders.stream()
+                .map(order -> send(orderCreatedRoutingKey, toMessage(order)))
+                .toArray(CompletableFuture[]::new);
+        awaitAll(confirms);
+        log.info("Published {} OrderCreated events", orders.size());
+    }
+
+    /**
+     * Send a prepared message; the future completes when the broker acks it and fails on nack, return or timeout
+     */
+    public CompletableFuture<Void> send(String routingKey, Message message) {
         try {
-            OrderCreatedEvent event = OrderCreatedEvent.builder()
-                    .eventType("OrderCreated")
-                    .orderId(order.getOrderId())
-                    .correlationId(UUID.randomUUID())
-                    .createdAt(Instant.now())
-                    .items(order.getItems().stream()
-                            .map(item -> OrderCreatedEvent.OrderItemEvent.builder()
-                                    .productId(item.getProductId())
-                                    .quantity(item.getQuantity())
-                                    .build())
-                            .collect(Collectors.toList()))
-                    .build();
-
-            rabbitTemplate.convertAndSend(exchangeName, orderCreatedRoutingKey, event);
-            log.info("Published OrderCreated event for order: {}", order.getOrderId());
-        } catch (Exception e) {
-            log.error("Failed to publish OrderCreated event for order: {}", order.getOrderId(), e);
-            throw new RuntimeException("Failed to publish event", e);
+            if (!inFlight.tryAcquire(confirmTimeoutMs, TimeUnit.MILLISECONDS)) {
+                return CompletableFuture.failedFuture(new AmqpException("Publisher confirm window is full"));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(new AmqpException("Interrupted while waiting for confirm window", e));
         }
+
+        CorrelationData correlationData = new CorrelationData(UUID.randomUUID().toString());
+        long sentAt = System.nanoTime();
+        try {
+            rabbitTemplate.send(exchangeName, routingKey, message, correlationData);
+        } catch (RuntimeException e) {
+            inFlight.release();
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return correlationData.getFuture()
+                .orTimeout(confirmTimeoutMs, TimeUnit.MILLISECONDS)
+                .handle((confirm, error) -> {
+                    inFlight.release();
+                    orderMetrics.recordConfirm(sentAt, error == null && confirm.isAck()
+                            && correlationData.getReturned() == null);
+                    if (error != null) {
+                        throw new AmqpException("No publisher confirm for message " + correlationData.getId(), error);
+                    }
+                    if (!confirm.isAck()) {
+                        throw new AmqpException("Broker nacked message " + correlationData.getId() + ": " + confirm.getReason());
+                    }
+                    if (correlationData.getReturned() != null) {
+                        throw new AmqpException("Message " + correlationData.getId() + " was returned as unroutable: "
+                                + correlationData.getReturned().getReplyText());
+                    }
+                    return null;
+                });
+    }
+
+    /**
+     * Block until every confirm has arrived, failing if any was nacked, returned or timed out
+     */
+    public void awaitAll(CompletableFuture<?>... confirms) {
+        try {
+            CompletableFuture.allOf(confirms).get(confirmTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AmqpException("Interrupted while waiting for publisher confirms", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new AmqpException("Failed to confirm batch of " + confirms.length + " messages", e);
+        }
+    }
+
+    private void attempt(UUID orderId, Message message, int attemptNumber, CompletableFuture<Void> result) {
+        send(orderCreatedRoutingKey, message).whenCompleteAsync((ignored, error) -> {
+            if (error == null) {
+                log.debug(LogMarkers.PER_MESSAGE, "Published OrderCreated event for order: {}", orderId);
+                result.complete(null);
+            } else if (attemptNumber < maxAttempts) {
+                log.warn("Publish of OrderCreated for order {} failed (attempt {}/{}), retrying",
+                        orderId, attemptNumber, maxAttempts, error);
+                orderMetrics.publishRetried();
+                attempt(orderId, message, attemptNumber + 1, result);
+            } else {
+                storeFallback(orderId, message, result, error);
+            }
+        }, recoveryExecutor);
+    }
+
+    private void storeFallback(UUID orderId, Message message, CompletableFuture<Void> result, Throwable error) {
+        try {
+            outboxEventRepository.save(OutboxEvent.builder()
+                    .aggregateId(orderId)
+                    .eventType(ORDER_CREATED)
+                    .routingKey(orderCreatedRoutingKey)
+                    .contentType(message.getMessageProperties().getContentType())
+                    .payload(message.getBody())
+                    .traceParent(message.getMessageProperties().getHeader(MessageTracing.TRACEPARENT))
+                    .build());
+            log.warn("OrderCreated for order {} could not be confirmed, stored in outbox for relay", orderId, error);
+            orderMetrics.publishFellBackToOutbox();
+            result.complete(null);
+        } catch (RuntimeException e) {
+            log.error("Failed to publish OrderCreated event for order: {}", orderId, e);
+            orderMetrics.publishFailed();
+            e.addSuppressed(error);
+            result.completeExceptionally(e);
+        }
+    }
+
+    private Message toMessage(Order order) {
+        MessageProperties properties = new MessageProperties();
+        properties.setDeliveryMode(MessageDeliveryMode.PERSISTENT);
+        properties.setType(ORDER_CREATED);
+        return rabbitTemplate.getMessageConverter()
+                .toMessage(orderEventFactory.toOrderCreatedEvent(order), properties);
     }
 }
@@ -0,0 +1,87 @@
+package ec.edu.espe.orderservice.infrastructure.messaging.tracing;
+
+import io.micrometer.tracing.Link;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.TraceContext;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import org.springframework.amqp.core.Message;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Message Tracing - W3C trace context for messages that leave or enter outside an observed call
+ * Covers what the RabbitTemplate observation cannot: events stored in the outbox and published later from
+ * another thread, and stock responses consumed in batches (one span per message, parented by its traceparent
+ * header, plus a batch span linked to all of them). Falls back to no-op spans when tracing is disabled.
+ */
+@Component
+public class MessageTracing {
+
+    public static final String TRACEPARENT = "traceparent";
+
+    private final Tracer tracer;
+    private final Propagator propagator;
+
+    public MessageTracing(ObjectProvider<Tracer> tracer, ObjectProvider<Propagator> propagator) {
+        this.tracer = tracer.getIfAvailable(() -> Tracer.NOOP);
+        this.propagator = propagator.getIfAvailable(() -> Propagator.NOOP);
+    }
+
+    /**
+     * The traceparent of the current span, or null when there is none
+     */
+    public String currentTraceParent() {
+        Span current = tracer.currentSpan();
+        if (current == null) {
+            return null;
+        }
+        Map<String, String> carrier = new HashMap<>(4);
+        propagator.inject(current.context(), carrier, Map::put);
+        return carrier.get(TRACEPARENT);
+    }
+
+    /**
+     * Start a producer span continuing the trace a stored traceparent belongs to (a new trace when null)
+     */
+    public Span startProducerSpan(String traceParent, String name) {
+        Map<String, String> carrier = traceParent != null ? Map.of(TRACEPARENT, traceParent) : Map.of();
+        return propagator.extract(carrier, Map::get)
+                .name(name)
+                .kind(Span.Kind.PRODUCER)
+                .start();
+    }
+
+    /**
+     * Start a consumer span parented by the message's trace headers
+     */
+    public Span startConsumerSpan(Message message, String name) {
+        return propagator.extract(message.getMessageProperties(), (properties, key) -> {
+                    Object value = properties.getHeader(key);
+                    return value != null ? value.toString() : null;
+                })
+                .name(name)
+                .kind(Span.Kind.CONSUMER)
+                .start();
+    }
+
+    /**
+     * Start a root span linked to the given spans, for work done on behalf of several traces at once
+     */
+    public Span startLinkedSpan(String name, Collection<Span> linked) {
+        Span.Builder builder = tracer.spanBuilder().setNoParent().name(name);
+        for (Span span : linked) {
+            TraceContext context = span.context();
+            builder.addLink(new Link(context));
+        }
+        return builder.start();
+    }
+
+    public Tracer.SpanInScope withSpan(Span span) {
+        return tracer.withSpan(span);
+    }
+}
@@ -0,0 +1,225 @@
+package ec.edu.espe.orderservice.infrastructure.metrics;
+
+import ec.edu.espe.orderservice.application.event.OrderStatusChangedEvent;
+import ec.edu.espe.orderservice.domain.model.OrderStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Order Metrics - Meters for the order lifecycle
+ * Every meter and tag combination is registered once at startup, so recording is a lookup-free
+ * call on a prebuilt Timer or Counter with no per-call allocation.
+ */
+@Component
+public class OrderMetrics {
+
+    private final Timer createTimer;
+    private final Timer createFailedTimer;
+    private final Timer createBatchTimer;
+    private final Timer createBatchFailedTimer;
+    private final DistributionSummary createBatchSize;
+    private final Map<OrderStatus, Timer> transitionTimers = new EnumMap<>(OrderStatus.class);
+    private final Map<OrderStatus, DistributionSummary> appliedTransitionSizes = new EnumMap<>(OrderStatus.class);
+    private final Map<OrderStatus, DistributionSummary> ignoredTransitionSizes = new EnumMap<>(OrderStatus.class);
+    private final Map<OrderStatus, Timer> endToEndTimers = new EnumMap<>(OrderStatus.class);
+
+    private final Timer publishTimer;
+    private final Timer confirmAckTimer;
+    private final Timer confirmFailedTimer;
+    private final Counter publishRetries;
+    private final Counter publishFallbacks;
+    private final Counter publishFailures;
+
+    private final Timer stockBatchTimer;
+    private final Timer stockResponseLag;
+    private final Counter stockResponsesApplied;
+    private final Counter stockResponsesDuplicate;
+    private final Counter stockResponsesDeferred;
+    private final Counter stockResponsesParked;
+    private final Counter stockResponsesUndecodable;
+
+    public OrderMetrics(MeterRegistry registry) {
+        this.createTimer = Timer.builder("orders.create")
+                .description("Time to create an order and hand its OrderCreated event to the publisher")
+                .tag("outcome", "success")
+                .register(registry);
+        this.createFailedTimer = Timer.builder("orders.create")
+                .description("Time to create an order and hand its OrderCreated event to the publisher")
+                .tag("outcome", "failure")
+                .register(registry);
+        this.createBatchTimer = Timer.builder("orders.create.batch")
+                .description("Time to create a batch of orders and confirm their OrderCreated events")
+                .tag("outcome", "success")
+                .register(registry);
+        this.createBatchFailedTimer = Timer.builder("orders.create.batch")
+                .description("Time to create a batch of orders and confirm their OrderCreated events")
+                .tag("outcome", "failure")
+                .register(registry);
+        this.createBatchSize = DistributionSummary.builder("orders.create.batch.size")
+                .description("Orders per batch create request")
+                .baseUnit("orders")
+                .register(registry);
+
+        for (OrderStatus target : new OrderStatus[]{OrderStatus.CONFIRMED, OrderStatus.CANCELLED}) {
+            String status = target.name().toLowerCase();
+            transitionTimers.put(target, Timer.builder("orders.transition")
+                    .description("Time of one conditional UPDATE confirming or cancelling a batch of orders")
+                    .tag("status", status)
+                    .register(registry));
+            appliedTransitionSizes.put(target, DistributionSummary.builder("orders.transition.batch.size")
+                    .description("Orders per stock response batch moved to a terminal status")
+                    .baseUnit("orders")
+                    .tags("status", status, "result", "applied")
+                    .register(registry));
+            ignoredTransitionSizes.put(target, DistributionSummary.builder("orders.transition.batch.size")
+                    .description("Orders per stock response batch left unchanged because they were already terminal")
+                    .baseUnit("orders")
+                    .tags("status", status, "result", "ignored")
+                    .register(registry));
+            endToEndTimers.put(target, Timer.builder("orders.end.to.end")
+                    .description("Time from order creation until it reached a terminal status")
+                    .tag("outcome", status)
+                    .register(registry));
+        }
+
+        this.publishTimer = Timer.builder("orders.events.publish")
+                .description("Time spent on the caller thread handing an OrderCreated event to RabbitMQ")
+                .register(registry);
+        this.confirmAckTimer = Timer.builder("orders.events.confirm")
+                .description("Time from send until the broker confirmed the message")
+                .tag("result", "ack")
+                .register(registry);
+        this.confirmFailedTimer = Timer.builder("orders.events.confirm")
+                .description("Time from send until the broker confirmed the message")
+                .tag("result", "failed")
+                .register(registry);
+        this.publishRetries = publishCounter(registry, "retried");
+        this.publishFallbacks = publishCounter(registry, "outbox_fallback");
+        this.publishFailures = publishCounter(registry, "failed");
+
+        this.stockBatchTimer = Timer.builder("orders.stock.responses.batch")
+                .description("Time to apply one batch of stock responses")
+                .register(registry);
+        this.stockResponseLag = Timer.builder("orders.stock.responses.lag")
+                .description("Time from the inventory response until this service consumed it")
+                .register(registry);
+        this.stockResponsesApplied = stockResponseCounter(registry, "applied");
+        this.stockResponsesDuplicate = stockResponseCounter(registry, "duplicate");
+        this.stockResponsesDeferred = stockResponseCounter(registry, "deferred");
+        this.stockResponsesParked = stockResponseCounter(registry, "parked");
+        this.stockResponsesUndecodable = stockResponseCounter(registry, "undecodable");
+    }
+
+    public void recordCreate(long startNanos, boolean success) {
+        (success ? createTimer : createFailedTimer).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordCreateBatch(long startNanos, int size, boolean success) {
+        (success ? createBatchTimer : createBatchFailedTimer).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        createBatchSize.record(size);
+    }
+
+    /**
+     * Records one confirm or cancel UPDATE statement
+     */
+    public void recordTransition(OrderStatus target, long startNanos) {
+        transitionTimers.get(target).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records how many orders of one stock response batch moved to target and how many were already terminal
+     */
+    public void recordTransitionBatch(OrderStatus target, int applied, int ignored) {
+        appliedTransitionSizes.get(target).record(applied);
+        ignoredTransitionSizes.get(target).record(ignored);
+    }
+
+    public void recordPublish(long startNanos) {
+        publishTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordConfirm(long startNanos, boolean acked) {
+        (acked ? confirmAckTimer : confirmFailedTimer).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void publishRetried() {
+        publishRetries.increment();
+    }
+
+    public void publishFellBackToOutbox() {
+        publishFallbacks.increment();
+    }
+
+    public void publishFailed() {
+        publishFailures.increment();
+    }
+
+    public void recordStockBatch(long startNanos) {
+        stockBatchTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordStockResponseLag(Instant respondedAt) {
+        if (respondedAt != null) {
+            stockResponseLag.record(Duration.between(respondedAt, Instant.now()));
+        }
+    }
+
+    public void stockResponsesApplied(int count) {
+        stockResponsesApplied.increment(count);
+    }
+
+    public void stockResponsesDuplicate(int count) {
+        stockResponsesDuplicate.increment(count);
+    }
+
+    public void stockResponsesDeferred(int count) {
+        stockResponsesDeferred.increment(count);
+    }
+
+    public void stockResponseParked() {
+        stockResponsesParked.increment();
+    }
+
+    public void stockResponseUndecodable() {
+        stockResponsesUndecodable.increment();
+    }
+
+    /**
+     * Records how long the order took to settle, once the transition has committed (on the instance that applied it)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        if (event.isRemote()) {
+            return;
+        }
+        Timer timer = endToEndTimers.get(event.getStatus());
+        if (timer != null && event.getCreatedAt() != null) {
+            timer.record(Duration.between(event.getCreatedAt(), Instant.now()));
+        }
+    }
+
+    private static Counter publishCounter(MeterRegistry registry, String result) {
+        return Counter.builder("orders.events.publish.failures")
+                .description("OrderCreated publishes that were not confirmed on the first attempt")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static Counter stockResponseCounter(MeterRegistry registry, String result) {
+        return Counter.builder("orders.stock.responses")
+                .description("Stock responses consumed, by what happened to them")
+                .tag("result", result)
+                .register(registry);
+    }
+}
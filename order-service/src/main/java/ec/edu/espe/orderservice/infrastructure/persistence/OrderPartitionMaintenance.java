@@ -0,0 +1,207 @@
+package ec.edu.espe.orderservice.infrastructure.persistence;
+
+import ec.edu.espe.orderservice.domain.model.OrderStatus;
+import ec.edu.espe.orderservice.infrastructure.archive.OrderArchiver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Order Partition Maintenance - Keeps the monthly partitions of orders and order_items (db/migration) in shape
+ * Creates the partitions for the coming months, and removes months older than the retention period from
+ * both tables once none of their orders is still waiting for inventory. Removed months are first written
+ * to the order archive (OrderArchiver, when orders.archive.enabled), then detached (kept as standalone
+ * orders_pYYYYMM / order_items_pYYYYMM tables) or dropped. A month that fails to archive stays attached.
+ *
+ * Runs at startup and on a cron schedule; a PostgreSQL advisory lock keeps concurrent instances from
+ * doing the same work. Partitions are detached CONCURRENTLY, so readers and writers of the hot months
+ * are not blocked.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderPartitionMaintenance {
+
+    private static final long ADVISORY_LOCK_KEY = 0x6f72646572706172L;
+    private static final Pattern PARTITION = Pattern.compile("^(orders|order_items)_p(\\d{6})$");
+    private static final DateTimeFormatter MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private static final String PARTITIONS_SQL =
+            "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                    + "WHERE i.inhparent = 'orders'::regclass ORDER BY c.relname";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OrderArchiver orderArchiver;
+
+    @Value("${orders.partitions.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${orders.partitions.retention-months:12}")
+    private int retentionMonths;
+
+    @Value("${orders.partitions.retention-action:detach}")
+    private RetentionAction retentionAction;
+
+    @Value("${orders.archive.enabled:true}")
+    private boolean archiveEnabled;
+
+    public enum RetentionAction {
+        /** Detach old months and keep them as standalone tables (e.g. for archiving) */
+        DETACH,
+        /** Detach and drop old months */
+        DROP
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${orders.partitions.maintenance-cron:0 15 3 * * *}")
+    public void maintain() {
+        try {
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                if (!tryLock(connection)) {
+                    log.debug("Partition maintenance is running on another instance");
+                    return null;
+                }
+                try {
+                    createUpcoming(connection);
+                    retireExpired(connection);
+                } finally {
+                    unlock(connection);
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.error("Order partition maintenance failed", e);
+        }
+    }
+
+    private void createUpcoming(Connection connection) throws SQLException {
+        int created = 0;
+        try (PreparedStatement ensure = connection.prepareStatement(
+                "SELECT ensure_monthly_partitions(?, current_date, (current_date + make_interval(months => ?))::date, ?)")) {
+            created += ensure(ensure, "orders", 90);
+            created += ensure(ensure, "order_items", 100);
+        }
+        if (created > 0) {
+            log.info("Created {} order partitions for the next {} months", created, monthsAhead);
+        }
+    }
+
+    private int ensure(PreparedStatement ensure, String parent, int fillFactor) throws SQLException {
+        ensure.setString(1, parent);
+        ensure.setInt(2, monthsAhead);
+        ensure.setInt(3, fillFactor);
+        try (ResultSet result = ensure.executeQuery()) {
+            result.next();
+            return result.getInt(1);
+        }
+    }
+
+    private void retireExpired(Connection connection) throws SQLException {
+        YearMonth oldestKept = YearMonth.now(ZoneOffset.UTC).minusMonths(retentionMonths);
+        String openStatuses = Arrays.stream(OrderStatus.values())
+                .filter(status -> !status.isTerminal())
+                .map(status -> "'" + status.name() + "'")
+                .collect(Collectors.joining(", "));
+
+        for (String partition : ordersPartitions(connection)) {
+            Matcher matcher = PARTITION.matcher(partition);
+            if (!matcher.matches() || !YearMonth.parse(matcher.group(2), MONTH).isBefore(oldestKept)) {
+                continue;
+            }
+            String month = matcher.group(2);
+            try (Statement statement = connection.createStatement()) {
+                try (ResultSet open = statement.executeQuery(
+                        "SELECT count(*) FROM " + partition + " WHERE status IN (" + openStatuses + ")")) {
+                    open.next();
+                    long pending = open.getLong(1);
+                    if (pending > 0) {
+                        log.warn("Keeping partition {}: {} orders have not reached a terminal status", partition, pending);
+                        continue;
+                    }
+                }
+                if (archiveEnabled && !archive(YearMonth.parse(month, MONTH))) {
+                    continue;
+                }
+                detach(statement, "orders", "orders_p" + month);
+                detach(statement, "order_items", "order_items_p" + month);
+                if (retentionAction == RetentionAction.DROP) {
+                    statement.execute("DROP TABLE IF EXISTS orders_p" + month + ", order_items_p" + month);
+                }
+                log.info("Retired order partitions for {} ({})", month, retentionAction.name().toLowerCase());
+            }
+        }
+    }
+
+    private boolean archive(YearMonth month) {
+        try {
+            orderArchiver.archiveMonth(month);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.error("Keeping order partitions for {}: archiving failed", month, e);
+            return false;
+        }
+    }
+
+    private List<String> ordersPartitions(Connection connection) throws SQLException {
+        List<String> partitions = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(PARTITIONS_SQL)) {
+            while (result.next()) {
+                partitions.add(result.getString(1));
+            }
+        }
+        return partitions;
+    }
+
+    private static void detach(Statement statement, String parent, String partition) throws SQLException {
+        // DETACH ... CONCURRENTLY cannot run in a transaction block: the connection is in autocommit mode
+        try (ResultSet attached = statement.executeQuery("SELECT EXISTS (SELECT 1 FROM pg_inherits "
+                + "WHERE inhparent = '" + parent + "'::regclass AND inhrelid = to_regclass('" + partition + "'))")) {
+            attached.next();
+            if (!attached.getBoolean(1)) {
+                return;
+            }
+        }
+        statement.execute("ALTER TABLE " + parent + " DETACH PARTITION " + partition + " CONCURRENTLY");
+    }
+
+    private static boolean tryLock(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("SELECT pg_try_advisory_lock(" + ADVISORY_LOCK_KEY + ")")) {
+            result.next();
+            return result.getBoolean(1);
+        }
+    }
+
+    private static void unlock(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SELECT pg_advisory_unlock(" + ADVISORY_LOCK_KEY + ")");
+        }
+    }
+}
@@ -1,16 +1,35 @@
 package ec.edu.espe.orderservice.presentation.controller;
 
+import ec.edu.espe.orderservice.application.dto.BatchCreateOrderRequest;
+import ec.edu.espe.orderservice.application.dto.BatchCreateOrderResponse;
 import ec.edu.espe.orderservice.application.dto.CreateOrderRequest;
 import ec.edu.espe.orderservice.application.dto.CreateOrderResponse;
+import ec.edu.espe.orderservice.application.dto.OrderExportFormat;
+import ec.edu.espe.orderservice.application.dto.OrderPageResponse;
 import ec.edu.espe.orderservice.application.dto.OrderResponse;
+import ec.edu.espe.orderservice.application.exception.InvalidExportRequestException;
 import ec.edu.espe.orderservice.application.service.OrderService;
+import ec.edu.espe.orderservice.domain.model.OrderStatus;
+import ec.edu.espe.orderservice.infrastructure.logging.LogMarkers;
+import ec.edu.espe.orderservice.presentation.longpoll.OrderStatusWatcher;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -24,6 +43,13 @@ import java.util.UUID;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderStatusWatcher orderStatusWatcher;
+
+    @Value("${orders.long-poll.max-timeout-seconds:60}")
+    private long maxLongPollTimeoutSeconds;
+
+    @Value("${orders.list.max-limit:500}")
+    private int maxListLimit;
 
     /**
      * Create a new order
@@ -31,19 +57,91 @@ public class OrderController {
      */
     @PostMapping
     public ResponseEntity<CreateOrderResponse> createOrder(@Valid @RequestBody CreateOrderRequest request) {
-        log.info("Received create order request for customer: {}", request.getCustomerId());
+        log.debug(LogMarkers.PER_MESSAGE, "Received create order request for customer: {}", request.getCustomerId());
         CreateOrderResponse response = orderService.createOrder(request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * Create a batch of orders (bulk imports)
+     * POST /api/v1/orders/batch
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchCreateOrderResponse> createOrders(@Valid @RequestBody BatchCreateOrderRequest request) {
+        log.info("Received batch create order request with {} orders", request.getOrders().size());
+        List<CreateOrderResponse> results = orderService.createOrders(request.getOrders());
+        BatchCreateOrderResponse response = BatchCreateOrderResponse.builder()
+                .accepted(results.size())
+                .orders(results)
+                .build();
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * List orders, oldest first, with keyset pagination
+     * GET /api/v1/orders?customerId=&status=&createdAfter=&cursor=&limit=
+     */
+    @GetMapping
+    public ResponseEntity<OrderPageResponse> listOrders(
+            @RequestParam(required = false) UUID customerId,
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant createdAfter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        log.debug("Received list orders request: customer={}, status={}, createdAfter={}", customerId, status, createdAfter);
+        int pageSize = Math.max(1, Math.min(limit, maxListLimit));
+        return ResponseEntity.ok(orderService.listOrders(customerId, status, createdAfter, cursor, pageSize));
+    }
+
+    /**
+     * Export every order created in [from, to), oldest first, as NDJSON or CSV
+     * GET /api/v1/orders/export?from=&to=&status=&format=ndjson|csv
+     * The body is written while the orders are read; send Accept-Encoding: gzip for a compressed response
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        OrderExportFormat exportFormat = OrderExportFormat.fromParameter(format);
+        if (!from.isBefore(to)) {
+            throw new InvalidExportRequestException("from (" + from + ") must be before to (" + to + ")");
+        }
+        log.info("Received export request: from={}, to={}, status={}, format={}", from, to, status, exportFormat);
+
+        StreamingResponseBody body = out -> orderService.exportOrders(from, to, status, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("orders." + exportFormat.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
     /**
      * Get order by ID
      * GET /api/v1/orders/{orderId}
      */
     @GetMapping("/{orderId}")
     public ResponseEntity<OrderResponse> getOrder(@PathVariable UUID orderId) {
-        log.info("Received get order request for: {}", orderId);
+        log.debug(LogMarkers.PER_MESSAGE, "Received get order request for: {}", orderId);
         OrderResponse response = orderService.getOrderById(orderId);
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * Long-poll an order until it reaches one of the given statuses
+     * GET /api/v1/orders/{orderId}?waitFor=CONFIRMED,CANCELLED&timeout=30
+     * Returns the current order as soon as it matches, or on timeout (seconds) whatever its status is
+     */
+    @GetMapping(value = "/{orderId}", params = "waitFor")
+    public DeferredResult<ResponseEntity<OrderResponse>> awaitOrder(@PathVariable UUID orderId,
+                                                                    @RequestParam Set<OrderStatus> waitFor,
+                                                                    @RequestParam(defaultValue = "30") long timeout) {
+        log.debug(LogMarkers.PER_MESSAGE, "Received long-poll request for order {} waiting for {}", orderId, waitFor);
+        long timeoutSeconds = Math.max(1, Math.min(timeout, maxLongPollTimeoutSeconds));
+        return orderStatusWatcher.await(orderId, waitFor, Duration.ofSeconds(timeoutSeconds));
+    }
 }
@@ -0,0 +1,108 @@
+package ec.edu.espe.orderservice.presentation.longpoll;
+
+import ec.edu.espe.orderservice.application.dto.OrderResponse;
+import ec.edu.espe.orderservice.application.event.OrderStatusChangedEvent;
+import ec.edu.espe.orderservice.application.service.OrderService;
+import ec.edu.espe.orderservice.domain.model.OrderStatus;
+import ec.edu.espe.orderservice.infrastructure.logging.LogMarkers;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Order Status Watcher - Parks long-poll requests until an order reaches one of the awaited statuses
+ * Parked requests are servlet async DeferredResults: no thread is held while waiting, only the connection.
+ * Waiters are completed after the status change commits; on timeout the current state is returned.
+ * Changes committed by other instances arrive as remote OrderStatusChangedEvents (OrderStatusBroadcaster),
+ * so a waiter is woken whichever instance applied the stock response.
+ */
+@Component
+@Slf4j
+public class OrderStatusWatcher {
+
+    private final OrderService orderService;
+    private final TransactionTemplate freshReadTransaction;
+
+    private final Map<UUID, Set<Waiter>> waiters = new ConcurrentHashMap<>();
+
+    public OrderStatusWatcher(OrderService orderService, PlatformTransactionManager transactionManager) {
+        this.orderService = orderService;
+        // Wakeups run in the committing transaction's AFTER_COMMIT callback, where its resources are still bound:
+        // read the new state in a transaction of its own
+        this.freshReadTransaction = new TransactionTemplate(transactionManager);
+        this.freshReadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.freshReadTransaction.setReadOnly(true);
+    }
+
+    public DeferredResult<ResponseEntity<OrderResponse>> await(UUID orderId, Set<OrderStatus> waitFor, Duration timeout) {
+        DeferredResult<ResponseEntity<OrderResponse>> result = new DeferredResult<>(timeout.toMillis());
+        Waiter waiter = new Waiter(waitFor, result);
+
+        register(orderId, waiter);
+        result.onCompletion(() -> unregister(orderId, waiter));
+        result.onTimeout(() -> result.setResult(ResponseEntity.ok(orderService.getOrderById(orderId))));
+        result.onError(error -> unregister(orderId, waiter));
+
+        // Check after registering so a transition committed in between is never missed
+        try {
+            OrderResponse current = orderService.getOrderById(orderId);
+            if (waiter.isSatisfiedBy(current)) {
+                result.setResult(ResponseEntity.ok(current));
+            }
+        } catch (RuntimeException e) {
+            unregister(orderId, waiter);
+            throw e;
+        }
+
+        return result;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        Set<Waiter> orderWaiters = waiters.get(event.getOrderId());
+        if (orderWaiters == null || orderWaiters.isEmpty()) {
+            return;
+        }
+
+        OrderResponse current = freshReadTransaction.execute(status -> orderService.getOrderById(event.getOrderId()));
+        orderWaiters.stream()
+                .filter(waiter -> waiter.isSatisfiedBy(current))
+                .forEach(waiter -> waiter.result().setResult(ResponseEntity.ok(current)));
+        log.debug(LogMarkers.PER_MESSAGE, "Woke waiters for order {} on {}transition to {}", event.getOrderId(),
+                event.isRemote() ? "remote " : "", event.getStatus());
+    }
+
+    private void register(UUID orderId, Waiter waiter) {
+        waiters.compute(orderId, (id, set) -> {
+            Set<Waiter> target = set != null ? set : ConcurrentHashMap.newKeySet();
+            target.add(waiter);
+            return target;
+        });
+    }
+
+    private void unregister(UUID orderId, Waiter waiter) {
+        waiters.computeIfPresent(orderId, (id, set) -> {
+            set.remove(waiter);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    private record Waiter(Set<OrderStatus> waitFor, DeferredResult<ResponseEntity<OrderResponse>> result) {
+
+        boolean isSatisfiedBy(OrderResponse response) {
+            return waitFor.contains(OrderStatus.valueOf(response.getStatus()));
+        }
+    }
+}
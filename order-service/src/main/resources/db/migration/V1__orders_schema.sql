@@ -0,0 +1,88 @@
+-- Order Service schema
+-- orders and order_items are range-partitioned by created_at, one partition per month. Primary keys include
+-- the partition key (PostgreSQL requires it), and order_items carries a copy of its order's created_at so an
+-- order and its items always land in partitions for the same month. There is no foreign key between them, so
+-- a month can be detached from both tables independently (OrderPartitionMaintenance).
+
+CREATE TABLE orders (
+    order_id            uuid         NOT NULL,
+    customer_id         uuid         NOT NULL,
+    status              varchar(20)  NOT NULL,
+    line_items          jsonb,
+    country             varchar(255),
+    city                varchar(255),
+    street              varchar(255),
+    postal_code         varchar(255),
+    payment_reference   varchar(255),
+    cancellation_reason varchar(255),
+    created_at          timestamp(6) with time zone NOT NULL,
+    updated_at          timestamp(6) with time zone,
+    version             bigint       NOT NULL DEFAULT 0,
+    CONSTRAINT pk_orders PRIMARY KEY (order_id, created_at),
+    CONSTRAINT ck_orders_status CHECK (status IN ('PENDING', 'CONFIRMED', 'CANCELLED'))
+) PARTITION BY RANGE (created_at);
+
+-- Listing by customer and by creation time, both in keyset order
+CREATE INDEX idx_orders_customer_created ON orders (customer_id, created_at, order_id);
+CREATE INDEX idx_orders_created ON orders (created_at, order_id);
+-- Small: only orders still waiting for inventory; also tells retention whether a month has settled
+CREATE INDEX idx_orders_pending ON orders (created_at) WHERE status = 'PENDING';
+
+CREATE TABLE order_items (
+    item_id    uuid    NOT NULL,
+    order_id   uuid    NOT NULL,
+    product_id uuid    NOT NULL,
+    quantity   integer NOT NULL,
+    created_at timestamp(6) with time zone NOT NULL,
+    CONSTRAINT pk_order_items PRIMARY KEY (item_id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE INDEX idx_order_items_order_id ON order_items (order_id);
+
+CREATE TABLE outbox_events (
+    event_id     uuid         NOT NULL,
+    aggregate_id uuid         NOT NULL,
+    event_type   varchar(255) NOT NULL,
+    routing_key  varchar(255) NOT NULL,
+    content_type varchar(255) NOT NULL,
+    payload      bytea        NOT NULL,
+    trace_parent varchar(255),
+    created_at   timestamp(6) with time zone NOT NULL,
+    CONSTRAINT pk_outbox_events PRIMARY KEY (event_id)
+);
+
+CREATE INDEX idx_outbox_events_created_at ON outbox_events (created_at);
+
+-- Creates the monthly partitions of parent covering first_month through last_month, named <parent>_pYYYYMM.
+-- Existing partitions are left alone, so it is safe to call repeatedly.
+CREATE FUNCTION ensure_monthly_partitions(parent text, first_month date, last_month date, fill_factor integer)
+    RETURNS integer
+    LANGUAGE plpgsql
+AS
+$$
+DECLARE
+    month_start date := date_trunc('month', first_month)::date;
+    partition   text;
+    created     integer := 0;
+BEGIN
+    WHILE month_start <= last_month LOOP
+        partition := format('%s_p%s', parent, to_char(month_start, 'YYYYMM'));
+        IF to_regclass(partition) IS NULL THEN
+            EXECUTE format(
+                    'CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L) WITH (fillfactor = %s)',
+                    partition, parent,
+                    month_start::timestamp AT TIME ZONE 'UTC',
+                    (month_start + interval '1 month')::timestamp AT TIME ZONE 'UTC',
+                    fill_factor);
+            created := created + 1;
+        END IF;
+        month_start := (month_start + interval '1 month')::date;
+    END LOOP;
+    RETURN created;
+END;
+$$;
+
+-- This month and the next three; OrderPartitionMaintenance keeps creating months ahead.
+-- Orders are updated once (PENDING -> terminal): leave room for HOT updates. Items are insert-only.
+SELECT ensure_monthly_partitions('orders', current_date, (current_date + interval '3 months')::date, 90);
+SELECT ensure_monthly_partitions('order_items', current_date, (current_date + interval '3 months')::date, 100);
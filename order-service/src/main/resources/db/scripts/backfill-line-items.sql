@@ -0,0 +1,27 @@
+-- Move the items of existing orders from order_items into orders.line_items
+-- (optional step after switching orders.persistence.item-storage=json; see README "Item Storage")
+--
+-- Runs in batches so each transaction stays short; repeat until it reports UPDATE 0.
+-- Orders read the inline items as soon as line_items is set, so order_items rows can be deleted afterwards.
+-- Every match includes created_at (part of both primary keys), so each order only reads its own month's
+-- order_items partition.
+
+WITH batch AS (
+    SELECT o.order_id, o.created_at
+    FROM orders o
+    WHERE o.line_items IS NULL
+    ORDER BY o.created_at, o.order_id
+    LIMIT 10000
+    FOR UPDATE SKIP LOCKED
+)
+UPDATE orders o
+SET line_items = COALESCE((
+        SELECT jsonb_agg(jsonb_build_object('productId', i.product_id, 'quantity', i.quantity) ORDER BY i.item_id)
+        FROM order_items i
+        WHERE i.order_id = o.order_id AND i.created_at = o.created_at), '[]'::jsonb)
+FROM batch
+WHERE o.order_id = batch.order_id AND o.created_at = batch.created_at;
+
+-- Once every order has line_items:
+-- DELETE FROM order_items i USING orders o
+-- WHERE i.order_id = o.order_id AND i.created_at = o.created_at AND o.line_items IS NOT NULL;
@@ -0,0 +1,53 @@
+-- One-time move of a database created by spring.jpa.hibernate.ddl-auto=update to the Flyway-managed,
+-- partitioned schema (db/migration). Flyway refuses to migrate a non-empty schema, so:
+--
+--   1. Stop the order-service and run STEP 1 (moves the old tables out of the public schema).
+--   2. Start the new version once; Flyway creates the partitioned tables (V1).
+--   3. Stop it again (or keep traffic off) and run STEP 2, then STEP 3 when the copy is verified.
+--
+-- The ddl-auto schema has no line_items or version column and no outbox_events table: copied orders keep
+-- their items in order_items (line_items NULL) and start at version 0, and outbox_events is only copied when
+-- it exists. Items copied from order_items take their order's created_at. Run with psql -v ON_ERROR_STOP=1.
+
+-- STEP 1 ----------------------------------------------------------------------------------------------
+-- CREATE SCHEMA legacy;
+-- ALTER TABLE public.orders SET SCHEMA legacy;
+-- ALTER TABLE public.order_items SET SCHEMA legacy;
+-- ALTER TABLE IF EXISTS public.outbox_events SET SCHEMA legacy;
+
+-- STEP 2 ----------------------------------------------------------------------------------------------
+BEGIN;
+
+SELECT ensure_monthly_partitions('orders', (SELECT min(created_at) FROM legacy.orders)::date, current_date, 90);
+SELECT ensure_monthly_partitions('order_items', (SELECT min(created_at) FROM legacy.orders)::date, current_date, 100);
+
+INSERT INTO orders (order_id, customer_id, status, line_items, country, city, street, postal_code,
+                    payment_reference, cancellation_reason, created_at, updated_at, version)
+SELECT order_id, customer_id, status, NULL::jsonb, country, city, street, postal_code,
+       payment_reference, cancellation_reason, created_at, updated_at, 0
+FROM legacy.orders;
+
+INSERT INTO order_items (item_id, order_id, product_id, quantity, created_at)
+SELECT i.item_id, i.order_id, i.product_id, i.quantity, o.created_at
+FROM legacy.order_items i
+JOIN legacy.orders o ON o.order_id = i.order_id;
+
+DO $$
+BEGIN
+    IF to_regclass('legacy.outbox_events') IS NOT NULL THEN
+        EXECUTE 'INSERT INTO outbox_events (event_id, aggregate_id, event_type, routing_key, content_type,
+                                            payload, trace_parent, created_at)
+                 SELECT event_id, aggregate_id, event_type, routing_key, content_type, payload, trace_parent,
+                        created_at
+                 FROM legacy.outbox_events';
+    END IF;
+END
+$$;
+
+COMMIT;
+
+ANALYZE orders;
+ANALYZE order_items;
+
+-- STEP 3 ----------------------------------------------------------------------------------------------
+-- DROP SCHEMA legacy CASCADE;
@@ -0,0 +1,107 @@
+package ec.edu.espe.orderservice.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Layout, ordering and uniqueness of generated UUIDv7 ids
+ */
+class UuidV7Test {
+
+    @Test
+    void setsVersionAndVariant() {
+        for (int i = 0; i < 1000; i++) {
+            UUID id = UuidV7.next();
+            assertThat(id.version()).isEqualTo(7);
+            assertThat(id.variant()).isEqualTo(2); // bits 10
+            assertThat(id.getLeastSignificantBits() >>> 62).isEqualTo(0b10L);
+        }
+    }
+
+    @Test
+    void increasesStrictlyWithinTheSameMillisecond() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(UuidV7.next());
+        }
+
+        int sameMillisecond = 0;
+        for (int i = 1; i < ids.size(); i++) {
+            UUID previous = ids.get(i - 1);
+            UUID current = ids.get(i);
+            // Timestamp and sequence live in the high bits, so they alone must grow
+            assertThat(Long.compareUnsigned(current.getMostSignificantBits(), previous.getMostSignificantBits()))
+                    .as("%s after %s", current, previous)
+                    .isPositive();
+            if (UuidV7.timestampOf(current).equals(UuidV7.timestampOf(previous))) {
+                sameMillisecond++;
+            }
+        }
+        assertThat(sameMillisecond).as("ids sharing a millisecond").isPositive();
+    }
+
+    @Test
+    void isUniqueAcrossThreads() throws Exception {
+        int threads = 8;
+        int perThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<List<UUID>>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                Callable<List<UUID>> generate = () -> {
+                    start.await();
+                    List<UUID> ids = new ArrayList<>(perThread);
+                    for (int i = 0; i < perThread; i++) {
+                        ids.add(UuidV7.next());
+                    }
+                    return ids;
+                };
+                results.add(executor.submit(generate));
+            }
+            start.countDown();
+
+            Set<UUID> all = new HashSet<>();
+            Set<Long> timestampsAndSequences = new HashSet<>();
+            for (Future<List<UUID>> result : results) {
+                for (UUID id : result.get()) {
+                    all.add(id);
+                    timestampsAndSequences.add(id.getMostSignificantBits());
+                }
+            }
+            assertThat(all).hasSize(threads * perThread);
+            // Uniqueness comes from the shared timestamp/sequence counter, not from the random bits
+            assertThat(timestampsAndSequences).hasSize(threads * perThread);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void encodesTheCurrentTime() {
+        long before = System.currentTimeMillis();
+        Instant timestamp = UuidV7.timestampOf(UuidV7.next());
+        long after = System.currentTimeMillis();
+
+        // The sequence may carry into the timestamp after a burst of ids, running slightly ahead of the clock
+        assertThat(timestamp.toEpochMilli()).isBetween(before, after + 1000);
+    }
+
+    @Test
+    void hasNoTimestampForOtherVersions() {
+        assertThat(UuidV7.timestampOf(UUID.randomUUID())).isNull();
+    }
+}
@@ -0,0 +1,82 @@
+package ec.edu.espe.orderservice.infrastructure.archive;
+
+import ec.edu.espe.orderservice.domain.model.Order;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Segments written into the shared directory by another instance become visible on rescan
+ */
+class OrderArchiveTest {
+
+    @TempDir
+    Path directory;
+
+    private OrderArchive archive;
+
+    @BeforeEach
+    void openArchive() throws IOException {
+        archive = new OrderArchive(directory);
+        archive.open();
+    }
+
+    @AfterEach
+    void closeArchive() {
+        archive.close();
+    }
+
+    @Test
+    void rescanOpensNewSegments() throws IOException {
+        Order order = OrderSegmentRoundTripTest.order(1);
+        writeElsewhere("orders-202601.oseg", List.of(order));
+        assertThat(archive.find(order.getOrderId())).isEmpty();
+
+        archive.rescan();
+
+        assertThat(archive.find(order.getOrderId())).isPresent();
+    }
+
+    @Test
+    void rescanReopensReplacedSegmentsAndForgetsRemovedOnes() throws IOException {
+        Order first = OrderSegmentRoundTripTest.order(1);
+        Path file = writeElsewhere("orders-202601.oseg", List.of(first));
+        archive.rescan();
+
+        Order second = OrderSegmentRoundTripTest.order(2);
+        writeElsewhere("orders-202601.oseg", List.of(first, second));
+        Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 1000));
+        archive.rescan();
+        assertThat(archive.find(second.getOrderId())).isPresent();
+
+        Files.delete(file);
+        archive.rescan();
+        assertThat(archive.find(first.getOrderId())).isEmpty();
+    }
+
+    /**
+     * Writes a segment the way OrderArchiver does on another instance: to a temporary file, moved into place
+     */
+    private Path writeElsewhere(String name, List<Order> orders) throws IOException {
+        Path temporary = Files.createTempFile(directory, name, ".tmp");
+        try (OutputStream out = Files.newOutputStream(temporary);
+             OrderSegmentWriter writer = new OrderSegmentWriter(out, 4, 6)) {
+            for (Order order : orders) {
+                writer.write(order);
+            }
+        }
+        return Files.move(temporary, directory.resolve(name), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+}
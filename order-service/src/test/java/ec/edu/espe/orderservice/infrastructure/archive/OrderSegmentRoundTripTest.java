@@ -0,0 +1,153 @@
+package ec.edu.espe.orderservice.infrastructure.archive;
+
+import ec.edu.espe.orderservice.domain.model.LineItem;
+import ec.edu.espe.orderservice.domain.model.Order;
+import ec.edu.espe.orderservice.domain.model.OrderItem;
+import ec.edu.espe.orderservice.domain.model.OrderStatus;
+import ec.edu.espe.orderservice.domain.model.ShippingAddress;
+import ec.edu.espe.orderservice.domain.model.UuidV7;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Writes orders with OrderSegmentWriter and reads every one of them back with OrderSegmentReader
+ */
+class OrderSegmentRoundTripTest {
+
+    private static final int BLOCK_SIZE = 4;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void readsBackEveryOrderAcrossBlocks() throws IOException {
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < 3 * BLOCK_SIZE + 1; i++) {
+            orders.add(order(i));
+        }
+        Path file = write("orders-202601.oseg", orders);
+
+        try (OrderSegmentReader reader = new OrderSegmentReader(file)) {
+            for (Order order : orders) {
+                assertThat(reader.mayContain(order.getOrderId())).isTrue();
+                Order read = reader.find(order.getOrderId()).orElseThrow();
+                assertThat(read)
+                        .usingRecursiveComparison()
+                        .ignoringFields("items", "lineItems")
+                        .isEqualTo(order);
+                assertThat(read.orderLines()).isEqualTo(order.orderLines());
+            }
+        }
+    }
+
+    @Test
+    void keepsNullsAndEmptyLineItems() throws IOException {
+        Order bare = Order.builder()
+                .orderId(UuidV7.next())
+                .customerId(UUID.randomUUID())
+                .status(OrderStatus.CANCELLED)
+                .createdAt(now())
+                .version(0L)
+                .lineItems(List.of())
+                .build();
+        Order partialAddress = Order.builder()
+                .orderId(UuidV7.next())
+                .customerId(UUID.randomUUID())
+                .status(OrderStatus.CONFIRMED)
+                .createdAt(now())
+                .updatedAt(now())
+                .version(1L)
+                .shippingAddress(new ShippingAddress(null, "Quito", null, ""))
+                .paymentReference("")
+                .lineItems(List.of())
+                .build();
+        Path file = write("orders-202602.oseg", List.of(bare, partialAddress));
+
+        try (OrderSegmentReader reader = new OrderSegmentReader(file)) {
+            Order readBare = reader.find(bare.getOrderId()).orElseThrow();
+            assertThat(readBare.getShippingAddress()).isNull();
+            assertThat(readBare.getUpdatedAt()).isNull();
+            assertThat(readBare.getPaymentReference()).isNull();
+            assertThat(readBare.getCancellationReason()).isNull();
+            assertThat(readBare.orderLines()).isEmpty();
+
+            Order readPartial = reader.find(partialAddress.getOrderId()).orElseThrow();
+            assertThat(readPartial.getShippingAddress()).isEqualTo(new ShippingAddress(null, "Quito", null, ""));
+            assertThat(readPartial.getPaymentReference()).isEmpty();
+            assertThat(readPartial.orderLines()).isEmpty();
+        }
+    }
+
+    @Test
+    void missesIdsThatWereNotWritten() throws IOException {
+        UUID before = UuidV7.next();
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < 2 * BLOCK_SIZE; i++) {
+            orders.add(order(i));
+        }
+        UUID after = UuidV7.next();
+        Path file = write("orders-202603.oseg", orders);
+
+        try (OrderSegmentReader reader = new OrderSegmentReader(file)) {
+            assertThat(reader.mayContain(before)).isFalse();
+            assertThat(reader.mayContain(after)).isFalse();
+            assertThat(reader.find(before)).isEmpty();
+            assertThat(reader.find(after)).isEmpty();
+            UUID between = new UUID(orders.get(2).getOrderId().getMostSignificantBits(),
+                    orders.get(2).getOrderId().getLeastSignificantBits() + 1);
+            assertThat(reader.find(between)).isEmpty();
+        }
+    }
+
+    private Path write(String name, List<Order> orders) throws IOException {
+        Path file = directory.resolve(name);
+        try (OutputStream out = Files.newOutputStream(file);
+             OrderSegmentWriter writer = new OrderSegmentWriter(out, BLOCK_SIZE, 6)) {
+            for (Order order : orders) {
+                writer.write(order);
+            }
+            assertThat(writer.rows()).isEqualTo(orders.size());
+        }
+        return file;
+    }
+
+    /**
+     * Varies the item layout (inline, order_items rows, none) and which optional columns are set
+     */
+    static Order order(int i) {
+        Order order = Order.builder()
+                .orderId(UuidV7.next())
+                .customerId(UUID.randomUUID())
+                .status(i % 2 == 0 ? OrderStatus.CONFIRMED : OrderStatus.CANCELLED)
+                .createdAt(now())
+                .updatedAt(i % 3 == 0 ? null : now())
+                .version((long) i)
+                .shippingAddress(i % 4 == 0 ? null : new ShippingAddress("EC", "Quito", "Av. " + i, "17010" + i))
+                .paymentReference(i % 2 == 0 ? "pay-" + i : null)
+                .cancellationReason(i % 2 == 0 ? null : "Stock not available: ñandú " + i)
+                .build();
+        switch (i % 3) {
+            case 0 -> order.setLineItems(List.of(new LineItem(UUID.randomUUID(), i + 1),
+                    new LineItem(UUID.randomUUID(), 2)));
+            case 1 -> order.addItem(OrderItem.builder().productId(UUID.randomUUID()).quantity(i).build());
+            default -> order.setLineItems(List.of());
+        }
+        return order;
+    }
+
+    private static Instant now() {
+        return Instant.now().truncatedTo(ChronoUnit.MICROS);
+    }
+}